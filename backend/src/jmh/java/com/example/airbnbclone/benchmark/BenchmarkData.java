@@ -0,0 +1,76 @@
+package com.example.airbnbclone.benchmark;
+
+import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
+import com.example.airbnbclone.listing.application.dto.sub.CardPictureDTO;
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.listing.domain.Listing;
+import com.example.airbnbclone.listing.domain.ListingPicture;
+import com.example.airbnbclone.listing.domain.ListingPictureMetadata;
+import com.example.airbnbclone.listing.mapper.ListingPictureMapper;
+
+import java.util.*;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final BookingCategory[] CATEGORIES = BookingCategory.values();
+
+    private BenchmarkData() {
+    }
+
+    static byte[] picture(Random random, int size) {
+        byte[] file = new byte[size];
+        random.nextBytes(file);
+        return file;
+    }
+
+    static Listing listing(Random random, long id, int pictureCount, int pictureSize) {
+        Listing listing = new Listing();
+        listing.setId(id);
+        listing.setPublicId(new UUID(0L, id));
+        listing.setTitle("Listing " + id);
+        listing.setDescription("A quiet place to stay, close to the beach and the city center.");
+        listing.setGuests(4);
+        listing.setBedrooms(2);
+        listing.setBeds(3);
+        listing.setBathrooms(1);
+        listing.setPrice(80 + random.nextInt(200));
+        listing.setBookingCategory(CATEGORIES[(int) (id % CATEGORIES.length)]);
+        listing.setLocation("FRA");
+        listing.setLandlordPublicId(new UUID(1L, id % 10));
+
+        Set<ListingPicture> pictures = new HashSet<>();
+        for (int i = 0; i < pictureCount; i++) {
+            ListingPicture picture = new ListingPicture();
+            picture.setId(id * 100 + i);
+            picture.setFile(picture(random, pictureSize));
+            picture.setFileContentType("image/jpeg");
+            picture.setCover(i == 0);
+            picture.setListing(listing);
+            pictures.add(picture);
+            if (i == 0) {
+                ListingPictureMetadata cover = new ListingPictureMetadata();
+                cover.setId(picture.getId());
+                cover.setFileContentType(picture.getFileContentType());
+                cover.setWidth(1024);
+                cover.setHeight(768);
+                listing.setCoverPicture(cover);
+            }
+        }
+        listing.setPictures(pictures);
+        return listing;
+    }
+
+    static List<DisplayCardListingDTO> cards(Random random, int count) {
+        List<DisplayCardListingDTO> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(new DisplayCardListingDTO(new PriceVO(80 + random.nextInt(200)), "FRA",
+                    new CardPictureDTO(ListingPictureMapper.PICTURE_URL_PREFIX + i, "image/jpeg", 1024, 768),
+                    CATEGORIES[i % CATEGORIES.length], new UUID(0L, i), 46.0 + i * 0.01, 2.0));
+        }
+        return cards;
+    }
+}
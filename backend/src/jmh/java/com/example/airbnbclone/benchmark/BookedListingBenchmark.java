@@ -0,0 +1,88 @@
+package com.example.airbnbclone.benchmark;
+
+import com.example.airbnbclone.booking.application.BookingLockManager;
+import com.example.airbnbclone.booking.application.BookingService;
+import com.example.airbnbclone.booking.application.dto.BookedListingDTO;
+import com.example.airbnbclone.booking.domain.Booking;
+import com.example.airbnbclone.booking.mapper.BookingMapperImpl;
+import com.example.airbnbclone.booking.repository.BookingBatchRepository;
+import com.example.airbnbclone.booking.repository.BookingRepository;
+import com.example.airbnbclone.listing.application.LandlordService;
+import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
+import com.example.airbnbclone.user.application.UserService;
+import com.example.airbnbclone.user.application.dto.ReadUserDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Landlord dashboard assembly: every booking of the landlord is joined to the card of its listing.
+ * Repositories and collaborators are stub-only mocks, so the measure is the in-memory join and mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookedListingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int listingCount;
+
+    @Param({"10"})
+    private int bookingsPerListing;
+
+    private BookingService bookingService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<DisplayCardListingDTO> properties = BenchmarkData.cards(random, listingCount);
+        OffsetDateTime start = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        List<Booking> bookings = new ArrayList<>(listingCount * bookingsPerListing);
+        for (DisplayCardListingDTO property : properties) {
+            for (int i = 0; i < bookingsPerListing; i++) {
+                Booking booking = new Booking();
+                booking.setPublicId(UUID.randomUUID());
+                booking.setFkListing(property.publicId());
+                booking.setFkTenant(UUID.randomUUID());
+                booking.setStartDate(start.plusDays(i * 7L));
+                booking.setEndDate(start.plusDays(i * 7L + 3));
+                booking.setTotalPrice(3 * property.price().value());
+                booking.setNumberOfTravelers(2);
+                bookings.add(booking);
+            }
+        }
+        ReadUserDTO landlord = new ReadUserDTO(UUID.randomUUID(), "Jane", "Doe", "landlord@example.com", null,
+                Set.of("ROLE_LANDLORD"));
+
+        UserService userService = mock(UserService.class, withSettings().stubOnly());
+        LandlordService landlordService = mock(LandlordService.class, withSettings().stubOnly());
+        BookingRepository bookingRepository = mock(BookingRepository.class, withSettings().stubOnly());
+        when(userService.getAuthenticatedUserFromSecurityContext()).thenReturn(landlord);
+        when(landlordService.getAllProperties(landlord)).thenReturn(properties);
+        when(bookingRepository.findAllByFkListingIn(any())).thenReturn(bookings);
+
+        bookingService = new BookingService(bookingRepository, new BookingMapperImpl(), userService, landlordService,
+                mock(PlatformTransactionManager.class, withSettings().stubOnly()),
+                new BookingLockManager(16, 100, 4, false),
+                mock(BookingBatchRepository.class, withSettings().stubOnly()));
+    }
+
+    @Benchmark
+    public List<BookedListingDTO> bookedListingForLandlord() {
+        return bookingService.getBookedListingForLandlord();
+    }
+}
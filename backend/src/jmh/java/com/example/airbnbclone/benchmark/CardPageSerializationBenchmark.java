@@ -0,0 +1,44 @@
+package com.example.airbnbclone.benchmark;
+
+import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of one page of listing cards, as returned by the tenant and landlord list endpoints. Cards carry
+ * the URL of their cover picture rather than its content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardPageSerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<DisplayCardListingDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        page = new PageImpl<>(BenchmarkData.cards(new Random(42), pageSize),
+                PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
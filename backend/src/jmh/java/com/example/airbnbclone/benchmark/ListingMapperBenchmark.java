@@ -0,0 +1,74 @@
+package com.example.airbnbclone.benchmark;
+
+import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
+import com.example.airbnbclone.listing.application.dto.DisplayListingDTO;
+import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
+import com.example.airbnbclone.listing.domain.Listing;
+import com.example.airbnbclone.listing.domain.ListingPicture;
+import com.example.airbnbclone.listing.mapper.ListingMapperImpl;
+import com.example.airbnbclone.listing.mapper.ListingPictureMapper;
+import com.example.airbnbclone.listing.mapper.ListingPictureMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListingMapperBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PICTURES_PER_LISTING = 5;
+
+    @Param({"100000", "500000"})
+    private int pictureSize;
+
+    private ListingMapperImpl listingMapper;
+    private ListingPictureMapperImpl listingPictureMapper;
+    private List<Listing> cardPage;
+    private Listing listing;
+    private List<PictureDTO> uploadedPictures;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        listingPictureMapper = new ListingPictureMapperImpl();
+        listingMapper = new ListingMapperImpl();
+        Field pictureMapperField = ListingMapperImpl.class.getDeclaredField("listingPictureMapper");
+        pictureMapperField.setAccessible(true);
+        pictureMapperField.set(listingMapper, (ListingPictureMapper) listingPictureMapper);
+
+        Random random = new Random(42);
+        cardPage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            cardPage.add(BenchmarkData.listing(random, i + 1, 1, pictureSize));
+        }
+        listing = BenchmarkData.listing(random, PAGE_SIZE + 1, PICTURES_PER_LISTING, pictureSize);
+        uploadedPictures = new ArrayList<>(PICTURES_PER_LISTING);
+        for (int i = 0; i < PICTURES_PER_LISTING; i++) {
+            uploadedPictures.add(new PictureDTO(BenchmarkData.picture(random, pictureSize), "image/jpeg", i == 0));
+        }
+    }
+
+    @Benchmark
+    public List<DisplayCardListingDTO> cardPage() {
+        return listingMapper.listingToDisplayCardListingDTOs(cardPage);
+    }
+
+    @Benchmark
+    public DisplayListingDTO listingDetail() {
+        return listingMapper.listingToDisplayListingDTO(listing);
+    }
+
+    @Benchmark
+    public Set<ListingPicture> uploadedPictures() {
+        return listingPictureMapper.pictureDTOsToListingPictures(uploadedPictures);
+    }
+}
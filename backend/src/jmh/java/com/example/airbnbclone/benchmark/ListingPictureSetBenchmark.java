@@ -0,0 +1,99 @@
+package com.example.airbnbclone.benchmark;
+
+import com.example.airbnbclone.listing.domain.ListingPicture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Set operations on the pictures of one listing (20 pictures of 5 MB), with the id based equality of
+ * {@link ListingPicture} against the former content based equality.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ListingPictureSetBenchmark {
+
+    private static final int PICTURE_COUNT = 20;
+    private static final int PICTURE_SIZE = 5 * 1024 * 1024;
+
+    private List<ListingPicture> pictures;
+    private List<ContentHashedPicture> contentHashedPictures;
+    private Set<ListingPicture> pictureSet;
+    private Set<ContentHashedPicture> contentHashedPictureSet;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        pictures = new ArrayList<>(PICTURE_COUNT);
+        contentHashedPictures = new ArrayList<>(PICTURE_COUNT);
+        for (int i = 0; i < PICTURE_COUNT; i++) {
+            byte[] file = new byte[PICTURE_SIZE];
+            random.nextBytes(file);
+
+            ListingPicture picture = new ListingPicture();
+            picture.setId((long) i + 1);
+            picture.setFile(file);
+            picture.setFileContentType("image/jpeg");
+            picture.setCover(i == 0);
+            pictures.add(picture);
+
+            contentHashedPictures.add(new ContentHashedPicture(file, "image/jpeg", i == 0));
+        }
+        pictureSet = new HashSet<>(pictures);
+        contentHashedPictureSet = new HashSet<>(contentHashedPictures);
+    }
+
+    @Benchmark
+    public Set<ListingPicture> addAllById() {
+        return new HashSet<>(pictures);
+    }
+
+    @Benchmark
+    public Set<ContentHashedPicture> addAllByContent() {
+        return new HashSet<>(contentHashedPictures);
+    }
+
+    @Benchmark
+    public boolean containsById() {
+        return pictureSet.contains(pictures.get(PICTURE_COUNT - 1));
+    }
+
+    @Benchmark
+    public boolean containsByContent() {
+        return contentHashedPictureSet.contains(contentHashedPictures.get(PICTURE_COUNT - 1));
+    }
+
+    /**
+     * Equality contract {@link ListingPicture} had before it switched to its id.
+     */
+    public static final class ContentHashedPicture {
+
+        private final byte[] file;
+        private final String fileContentType;
+        private final boolean isCover;
+
+        ContentHashedPicture(byte[] file, String fileContentType, boolean isCover) {
+            this.file = file;
+            this.fileContentType = fileContentType;
+            this.isCover = isCover;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ContentHashedPicture that = (ContentHashedPicture) o;
+            return isCover == that.isCover && Objects.deepEquals(file, that.file) && Objects.equals(fileContentType, that.fileContentType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(file), fileContentType, isCover);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.airbnbclone.benchmark;
+
+import com.example.airbnbclone.location.application.LocationIndex;
+import com.example.airbnbclone.location.application.TrigramLocationMatcher;
+import com.example.airbnbclone.location.application.dto.LocationAliasDTO;
+import com.example.airbnbclone.location.application.dto.LocationMatchDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fuzzy lookup of a misspelled location with the trigram inverted index against a scan scoring every alias. The
+ * dictionary is the real one (about 4,500 aliases) or the real one padded with synthetic aliases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocationMatcherBenchmark {
+
+    private static final String[] QUERIES = {"Portugl", "Unted States", "Japn", "Mexco", "Frence", "Brazl"};
+
+    @Param({"0", "100000"})
+    public int syntheticAliases;
+
+    private TrigramLocationMatcher matcher;
+    private List<LocationAliasDTO> aliases;
+    private List<Set<String>> aliasTrigrams;
+    private int query;
+
+    @Setup
+    public void setUp() throws IOException {
+        aliases = new ArrayList<>(new LocationIndex(new ObjectMapper()).aliases());
+        Random random = new Random(42);
+        int realAliases = aliases.size();
+        for (int i = 0; i < syntheticAliases; i++) {
+            LocationAliasDTO alias = aliases.get(random.nextInt(realAliases));
+            aliases.add(new LocationAliasDTO(alias.alias() + " " + Integer.toString(i, 36), alias.code()));
+        }
+        matcher = new TrigramLocationMatcher(aliases);
+        aliasTrigrams = aliases.stream().map(alias -> trigrams(alias.alias())).toList();
+    }
+
+    @Benchmark
+    public List<LocationMatchDTO> invertedIndex() {
+        return matcher.match(nextQuery(), 0.3, 3);
+    }
+
+    @Benchmark
+    public List<LocationMatchDTO> linearScan() {
+        Set<String> inputTrigrams = trigrams(nextQuery().toLowerCase(Locale.ROOT));
+        Map<String, Double> best = new HashMap<>();
+        for (int i = 0; i < aliases.size(); i++) {
+            Set<String> trigrams = aliasTrigrams.get(i);
+            int shared = 0;
+            for (String trigram : inputTrigrams) {
+                if (trigrams.contains(trigram)) {
+                    shared++;
+                }
+            }
+            double similarity = (double) shared / (inputTrigrams.size() + trigrams.size() - shared);
+            if (similarity >= 0.3) {
+                best.merge(aliases.get(i).code(), similarity, Math::max);
+            }
+        }
+        return best.entrySet().stream()
+                .map(entry -> new LocationMatchDTO(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(LocationMatchDTO::similarity).reversed())
+                .limit(3)
+                .toList();
+    }
+
+    private String nextQuery() {
+        query = (query + 1) % QUERIES.length;
+        return QUERIES[query];
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : value.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
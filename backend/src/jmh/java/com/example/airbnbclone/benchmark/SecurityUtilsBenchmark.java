@@ -0,0 +1,42 @@
+package com.example.airbnbclone.benchmark;
+
+import com.example.airbnbclone.infrastructure.config.SecurityUtils;
+import com.example.airbnbclone.user.domain.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of the OIDC attributes to a {@link User}, done on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityUtilsBenchmark {
+
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setUp() {
+        attributes = new HashMap<>();
+        attributes.put("sub", "google-oauth2|109876543210987654321");
+        attributes.put("preferred_username", "Jane.Doe@example.com");
+        attributes.put("given_name", "Jane");
+        attributes.put("family_name", "Doe");
+        attributes.put("nickname", "jane.doe");
+        attributes.put("email", "jane.doe@example.com");
+        attributes.put("picture", "https://lh3.googleusercontent.com/a/jane-doe-avatar");
+        attributes.put(SecurityUtils.CLAIMS_NAMESPACE, List.of(SecurityUtils.ROLE_TENANT, SecurityUtils.ROLE_LANDLORD));
+    }
+
+    @Benchmark
+    public User mapOauth2AttributesToUser() {
+        return SecurityUtils.mapOauth2AttributesToUser(attributes);
+    }
+}
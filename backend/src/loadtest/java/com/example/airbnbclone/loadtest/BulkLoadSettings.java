@@ -0,0 +1,33 @@
+package com.example.airbnbclone.loadtest;
+
+/**
+ * Volumes and distributions of {@link BulkLoader}, read from {@code loadtest.bulk.*} system properties.
+ *
+ * @param categorySkew   Zipf exponent over the booking categories, 0 for a uniform spread
+ * @param locationSkew   Zipf exponent over the locations, the first ones get most listings
+ * @param bookingDensity share of the nights of the horizon that end up booked, per listing
+ * @param horizonDays    calendar length, a third of it in the past
+ */
+record BulkLoadSettings(int listings,
+                        int picturesPerListing,
+                        int pictureSize,
+                        double categorySkew,
+                        double locationSkew,
+                        double bookingDensity,
+                        int horizonDays,
+                        int maxStayNights,
+                        long seed) {
+
+    static BulkLoadSettings fromSystemProperties() {
+        return new BulkLoadSettings(
+                Integer.getInteger("loadtest.bulk.listings", 100_000),
+                Integer.getInteger("loadtest.bulk.pictures-per-listing", 3),
+                Integer.getInteger("loadtest.bulk.picture-size", 2048),
+                Double.parseDouble(System.getProperty("loadtest.bulk.category-skew", "0.8")),
+                Double.parseDouble(System.getProperty("loadtest.bulk.location-skew", "1.1")),
+                Double.parseDouble(System.getProperty("loadtest.bulk.booking-density", "0.35")),
+                Integer.getInteger("loadtest.bulk.horizon-days", 540),
+                Integer.getInteger("loadtest.bulk.max-stay-nights", 7),
+                Long.getLong("loadtest.bulk.seed", 42L));
+    }
+}
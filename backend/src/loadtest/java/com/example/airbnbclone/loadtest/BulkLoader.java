@@ -0,0 +1,330 @@
+package com.example.airbnbclone.loadtest;
+
+import com.example.airbnbclone.infrastructure.config.SecurityUtils;
+import com.example.airbnbclone.listing.domain.BookingCategory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Offline loader for production sized volumes: listings, pictures and bookings are streamed to PostgreSQL with
+ * {@code COPY ... FROM STDIN} into the tables created by Liquibase, bypassing the services and their authentication.
+ * Identifiers are reserved up front on the entity sequences, so the application keeps allocating after the loaded
+ * rows. Landlords and tenants are read from the existing users, create them first with {@link LoadTestSeeder}.
+ * <p>
+ * Distributions are set with {@code loadtest.bulk.*} system properties, see {@link BulkLoadSettings}.
+ */
+public class BulkLoader {
+
+    private static final String SCHEMA = "airbnb_clone";
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+    private static final int BOOKING_ID_BLOCK = 100_000;
+    private static final int PICTURE_VARIANTS = 32;
+    private static final BookingCategory[] CATEGORIES = BookingCategory.values();
+
+    private final BulkLoadSettings settings;
+    private final Random random;
+    private final String now = LocalDateTime.now().toString();
+
+    BulkLoader(BulkLoadSettings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    public static void main(String[] args) throws SQLException {
+        LoadTestSettings loadTestSettings = LoadTestSettings.fromSystemProperties();
+        try (Connection connection = DriverManager.getConnection(loadTestSettings.jdbcUrl(),
+                loadTestSettings.jdbcUser(), loadTestSettings.jdbcPassword())) {
+            connection.setSchema(SCHEMA);
+            connection.setAutoCommit(false);
+            new BulkLoader(BulkLoadSettings.fromSystemProperties()).load(connection);
+        }
+    }
+
+    void load(Connection connection) throws SQLException {
+        List<UUID> landlords = findUsersWithAuthority(connection, SecurityUtils.ROLE_LANDLORD);
+        List<UUID> tenants = findUsersWithAuthority(connection, SecurityUtils.ROLE_TENANT);
+        if (landlords.isEmpty() || tenants.isEmpty()) {
+            throw new IllegalStateException("Landlords and tenants are needed, run LoadTestSeeder first");
+        }
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+        long start = System.nanoTime();
+        LoadedListings listings = copyListings(connection, copyManager, landlords);
+        log("listings", listings.size(), start);
+
+        start = System.nanoTime();
+        long pictureCount = copyPictures(connection, copyManager, listings);
+        log("pictures", pictureCount, start);
+
+        start = System.nanoTime();
+        long bookingCount = copyBookings(connection, copyManager, listings, tenants);
+        log("bookings", bookingCount, start);
+
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE listing, listing_picture, booking");
+        }
+    }
+
+    private LoadedListings copyListings(Connection connection, CopyManager copyManager, List<UUID> landlords) throws SQLException {
+        int count = settings.listings();
+        long firstId = reserveIds(connection, "listing_generator", count);
+        LoadedListings listings = new LoadedListings(firstId, count);
+        ZipfSampler categories = new ZipfSampler(CATEGORIES.length - 1, settings.categorySkew());
+        ZipfSampler locations = new ZipfSampler(LoadTestSettings.LOCATIONS.length, settings.locationSkew());
+        short[] locationIds = findLocationIds(connection);
+
+        try (CopyStream copy = new CopyStream(copyManager.copyIn("COPY listing (id, public_id, title, description, guests," +
+                " bedrooms, beds, bathrooms, price, category, location_id, landlord_public_id, created_date, last_modified_date)" +
+                " FROM STDIN WITH (FORMAT csv)"))) {
+            for (int i = 0; i < count; i++) {
+                UUID publicId = new UUID(random.nextLong(), random.nextLong());
+                int bedrooms = 1 + random.nextInt(4);
+                int price = (int) Math.min(2000, Math.max(20, Math.exp(4.6 + random.nextGaussian() * 0.5)));
+                listings.publicIds[i] = publicId;
+                listings.prices[i] = price;
+                copy.field(firstId + i).field(publicId).field("Bulk listing " + i)
+                        .field("Generated listing for volume testing")
+                        .field(bedrooms * 2).field(bedrooms).field(bedrooms + random.nextInt(2)).field(1 + random.nextInt(bedrooms))
+                        .field(price)
+                        .field(CATEGORIES[1 + categories.sample(random)].getCode())
+                        .field(locationIds[locations.sample(random)])
+                        .field(landlords.get(random.nextInt(landlords.size())))
+                        .field(now).field(now).endRow();
+            }
+        }
+        return listings;
+    }
+
+    private long copyPictures(Connection connection, CopyManager copyManager, LoadedListings listings) throws SQLException {
+        long count = (long) listings.size() * settings.picturesPerListing();
+        long firstId = reserveIds(connection, "listing_picture_generator", count);
+        long[] variants = createPictureVariants(connection);
+
+        long id = firstId;
+        try (CopyStream copy = new CopyStream(copyManager.copyIn("COPY listing_picture (id, listing_fk, file, is_cover," +
+                " file_content_type, created_date, last_modified_date) FROM STDIN WITH (FORMAT csv)"))) {
+            for (int i = 0; i < listings.size(); i++) {
+                for (int p = 0; p < settings.picturesPerListing(); p++) {
+                    copy.field(id++).field(listings.id(i)).field(variants[random.nextInt(PICTURE_VARIANTS)])
+                            .field(p == 0).field("image/jpeg").field(now).field(now).endRow();
+                }
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement("UPDATE listing SET cover_picture_id = picture.id" +
+                " FROM listing_picture picture WHERE picture.listing_fk = listing.id AND picture.is_cover = true" +
+                " AND listing.id BETWEEN ? AND ?")) {
+            statement.setLong(1, listings.firstId);
+            statement.setLong(2, listings.id(listings.size() - 1));
+            statement.executeUpdate();
+        }
+        return count;
+    }
+
+    /**
+     * Walks each listing's calendar over the horizon, alternating stays of 1 to {@code maxStayNights} nights with
+     * exponentially distributed gaps sized so that about {@code bookingDensity} of the nights end up booked. Stays of
+     * one listing never overlap, as required by the exclusion constraint.
+     */
+    private long copyBookings(Connection connection, CopyManager copyManager, LoadedListings listings,
+                              List<UUID> tenants) throws SQLException {
+        double meanStay = (1 + settings.maxStayNights()) / 2.0;
+        double meanGap = meanStay * (1 - settings.bookingDensity()) / Math.max(settings.bookingDensity(), 0.01);
+        OffsetDateTime horizonStart = LocalDate.now().minusDays(settings.horizonDays() / 3)
+                .atStartOfDay().atOffset(ZoneOffset.UTC);
+
+        long count = 0;
+        long nextId = 0;
+        long lastReservedId = -1;
+        CopyStream copy = null;
+        try {
+            for (int i = 0; i < listings.size(); i++) {
+                int day = (int) (-Math.log(1 - random.nextDouble()) * meanGap);
+                while (true) {
+                    int nights = 1 + random.nextInt(settings.maxStayNights());
+                    if (day + nights > settings.horizonDays()) {
+                        break;
+                    }
+                    if (nextId > lastReservedId) {
+                        // the connection cannot run another statement while a COPY is in progress
+                        if (copy != null) {
+                            copy.close();
+                        }
+                        nextId = reserveIds(connection, "booking_generator", BOOKING_ID_BLOCK);
+                        lastReservedId = nextId + BOOKING_ID_BLOCK - 1;
+                        copy = new CopyStream(copyManager.copyIn("COPY booking (id, start_date, end_date, total_price," +
+                                " nb_of_travelers, public_id, fk_listing, fk_tenant, created_date, last_modified_date)" +
+                                " FROM STDIN WITH (FORMAT csv)"));
+                    }
+                    OffsetDateTime startDate = horizonStart.plusDays(day);
+                    copy.field(nextId++).field(startDate).field(startDate.plusDays(nights))
+                            .field(nights * listings.prices[i]).field(1 + random.nextInt(4))
+                            .field(new UUID(random.nextLong(), random.nextLong())).field(listings.publicIds[i])
+                            .field(tenants.get(random.nextInt(tenants.size()))).field(now).field(now).endRow();
+                    count++;
+                    day += nights + (int) (-Math.log(1 - random.nextDouble()) * meanGap);
+                }
+            }
+        } finally {
+            if (copy != null) {
+                copy.close();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The file column is an {@code oid}, as Hibernate maps a {@code @Lob byte[]}, and large objects cannot be created
+     * from a COPY. A few of them are created up front and shared by the copied rows; the application never unlinks
+     * them.
+     */
+    private long[] createPictureVariants(Connection connection) throws SQLException {
+        long[] oids = new long[PICTURE_VARIANTS];
+        try (PreparedStatement statement = connection.prepareStatement("SELECT lo_from_bytea(0, ?)")) {
+            for (int i = 0; i < PICTURE_VARIANTS; i++) {
+                byte[] file = new byte[settings.pictureSize()];
+                random.nextBytes(file);
+                statement.setBytes(1, file);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    oids[i] = resultSet.getLong(1);
+                }
+            }
+        }
+        return oids;
+    }
+
+    /**
+     * Moves the sequence past {@code count} values and returns the first one. Meant for an otherwise idle database.
+     */
+    private static long reserveIds(Connection connection, String sequence, long count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT setval(?::regclass, nextval(?::regclass) + ? - 1)")) {
+            statement.setString(1, sequence);
+            statement.setString(2, sequence);
+            statement.setLong(3, count);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) - count + 1;
+            }
+        }
+    }
+
+    private static List<UUID> findUsersWithAuthority(Connection connection, String authority) throws SQLException {
+        List<UUID> publicIds = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT airbnb_user.public_id FROM airbnb_user" +
+                " JOIN user_authority ON user_authority.user_id = airbnb_user.id WHERE user_authority.authority_name = ?")) {
+            statement.setString(1, authority);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    publicIds.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+        }
+        return publicIds;
+    }
+
+    /**
+     * Keys of {@link LoadTestSettings#LOCATIONS} in the {@code location} table, read before the COPY starts.
+     */
+    private static short[] findLocationIds(Connection connection) throws SQLException {
+        short[] ids = new short[LoadTestSettings.LOCATIONS.length];
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM location WHERE code = ?")) {
+            for (int i = 0; i < ids.length; i++) {
+                statement.setString(1, LoadTestSettings.LOCATIONS[i]);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("Unknown location " + LoadTestSettings.LOCATIONS[i]);
+                    }
+                    ids[i] = resultSet.getShort(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void log(String table, long rows, long startNanos) {
+        long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        System.out.printf("Copied %d %s in %d ms (%d rows/s)%n", rows, table, millis, rows * 1000 / millis);
+    }
+
+    private static final class LoadedListings {
+
+        private final long firstId;
+        private final UUID[] publicIds;
+        private final int[] prices;
+
+        private LoadedListings(long firstId, int count) {
+            this.firstId = firstId;
+            this.publicIds = new UUID[count];
+            this.prices = new int[count];
+        }
+
+        private long id(int index) {
+            return firstId + index;
+        }
+
+        private int size() {
+            return publicIds.length;
+        }
+    }
+
+    /**
+     * Buffers CSV rows and hands them to the server in chunks of {@value #COPY_BUFFER_SIZE} characters. Values are
+     * generated, so none of them needs quoting.
+     */
+    private static final class CopyStream implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 4096);
+        private boolean firstField = true;
+
+        private CopyStream(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        private CopyStream field(Object value) {
+            if (!firstField) {
+                buffer.append(',');
+            }
+            buffer.append(value);
+            firstField = false;
+            return this;
+        }
+
+        private void endRow() throws SQLException {
+            buffer.append('\n');
+            firstField = true;
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (copyIn.isActive()) {
+                flush();
+                copyIn.endCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.airbnbclone.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latencies of one scenario step. Recording is synchronized, which is negligible next to an HTTP round
+ * trip.
+ */
+class LatencyRecorder {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errors;
+    private int rejections;
+
+    synchronized void record(long latencyNanos) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    synchronized void recordRejection() {
+        rejections++;
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        return new Snapshot(count, errors, rejections, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    record Snapshot(int count, int errors, int rejections, long p50Nanos, long p99Nanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.airbnbclone.loadtest;
+
+import com.example.airbnbclone.infrastructure.config.SecurityUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives the backend started with the {@code loadtest} profile. Each virtual user loops over weighted scenarios until
+ * the run ends; tenants browse, search, book and cancel, landlords open their dashboard. Latencies measured during the
+ * warmup are discarded.
+ */
+public class LoadTestRunner {
+
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+    private static final String CSRF_HEADER = "X-XSRF-TOKEN";
+
+    private final LoadTestSettings settings;
+    private final LoadTestTokenIssuer tokenIssuer;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Step, LatencyRecorder> recorders = new EnumMap<>(Step.class);
+    private volatile boolean recording;
+    private List<String> listingPublicIds;
+
+    LoadTestRunner(LoadTestSettings settings) {
+        this.settings = settings;
+        this.tokenIssuer = new LoadTestTokenIssuer(settings.issuer(), settings.jwtSecret());
+        for (Step step : Step.values()) {
+            recorders.put(step, new LatencyRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(LoadTestSettings.fromSystemProperties()).run();
+    }
+
+    void run() throws Exception {
+        listingPublicIds = discoverListings();
+        long deadline = System.nanoTime() + settings.warmup().plus(settings.duration()).toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.virtualUsers(); i++) {
+                VirtualUser user = i % 10 == 0 ? landlord(i / 10 % settings.landlords()) : tenant(i % settings.tenants());
+                executor.submit(() -> user.loop(deadline));
+            }
+            Thread.sleep(settings.warmup().toMillis());
+            recording = true;
+            long measureStart = System.nanoTime();
+            Thread.sleep(settings.duration().toMillis());
+            recording = false;
+            report(System.nanoTime() - measureStart);
+        }
+    }
+
+    private List<String> discoverListings() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(settings.baseUrl()
+                + "/api/tenant-listing/get-all-by-category?category=ALL&page=0&size=200")).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        List<String> publicIds = new ArrayList<>();
+        for (JsonNode card : objectMapper.readTree(response.body()).path("content")) {
+            publicIds.add(card.path("publicId").asText());
+        }
+        if (publicIds.isEmpty()) {
+            throw new IllegalStateException("No listing found, run LoadTestSeeder first");
+        }
+        return publicIds;
+    }
+
+    private VirtualUser tenant(int index) {
+        String email = LoadTestSettings.TENANT_EMAIL.formatted(index);
+        return new VirtualUser(tokenIssuer.issue(email, "Load", "Test " + index,
+                List.of(SecurityUtils.ROLE_TENANT), settings.duration().multipliedBy(2).plus(settings.warmup())), false);
+    }
+
+    private VirtualUser landlord(int index) {
+        String email = LoadTestSettings.LANDLORD_EMAIL.formatted(index);
+        return new VirtualUser(tokenIssuer.issue(email, "Load", "Test " + index,
+                List.of(SecurityUtils.ROLE_TENANT, SecurityUtils.ROLE_LANDLORD),
+                settings.duration().multipliedBy(2).plus(settings.warmup())), true);
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-22s %9s %9s %9s %9s %9s %9s %9s%n",
+                "step", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors", "rejected");
+        int total = 0;
+        for (Map.Entry<Step, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder.Snapshot snapshot = entry.getValue().snapshot();
+            total += snapshot.count();
+            System.out.printf("%-22s %9d %9.1f %9.1f %9.1f %9.1f %9d %9d%n", entry.getKey().name().toLowerCase(),
+                    snapshot.count(), snapshot.count() / seconds, snapshot.p50Nanos() / 1e6,
+                    snapshot.p99Nanos() / 1e6, snapshot.maxNanos() / 1e6, snapshot.errors(), snapshot.rejections());
+        }
+        System.out.printf("%d requests in %.1f s with %d virtual users: %.1f req/s%n", total, seconds,
+                settings.virtualUsers(), total / seconds);
+    }
+
+    private enum Scenario {
+        BROWSE(40), SEARCH(25), BOOK(20), CANCEL(15);
+
+        private final int weight;
+
+        Scenario(int weight) {
+            this.weight = weight;
+        }
+
+        static Scenario pick(int roll) {
+            int cumulated = 0;
+            for (Scenario scenario : values()) {
+                cumulated += scenario.weight;
+                if (roll < cumulated) {
+                    return scenario;
+                }
+            }
+            return BROWSE;
+        }
+    }
+
+    private enum Step {
+        BROWSE, LISTING_DETAIL, SEARCH, FUZZY_SEARCH, CHECK_AVAILABILITY, QUOTE, BOOK, BOOKED_LISTINGS, CANCEL,
+        LANDLORD_LISTINGS, LANDLORD_BOOKINGS
+    }
+
+    private final class VirtualUser {
+
+        private final String token;
+        private final boolean landlord;
+        private final CookieManager cookieManager = new CookieManager();
+        private final HttpClient client;
+
+        private VirtualUser(String token, boolean landlord) {
+            this.token = token;
+            this.landlord = landlord;
+            this.client = HttpClient.newBuilder()
+                    .cookieHandler(cookieManager)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+        }
+
+        /**
+         * Tenants browse until the CSRF cookie is set, since every other scenario sends a mutating request.
+         */
+        void loop(long deadline) {
+            while (System.nanoTime() < deadline) {
+                try {
+                    if (landlord) {
+                        landlordDashboard();
+                    } else {
+                        Scenario scenario = hasCsrfToken()
+                                ? Scenario.pick(ThreadLocalRandom.current().nextInt(100)) : Scenario.BROWSE;
+                        switch (scenario) {
+                            case BROWSE -> browse();
+                            case SEARCH -> search();
+                            case BOOK -> book();
+                            case CANCEL -> cancel();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    // already recorded as an error by the failing step
+                }
+            }
+        }
+
+        private void browse() throws IOException, InterruptedException {
+            send(Step.BROWSE, get("/api/tenant-listing/get-all-by-category?category=ALL&page="
+                    + ThreadLocalRandom.current().nextInt(5) + "&size=20"));
+            send(Step.LISTING_DETAIL, get("/api/tenant-listing/get-one?publicId=" + randomListing()));
+        }
+
+        /**
+         * One search out of four types a misspelled location name instead of picking a code.
+         */
+        private void search() throws IOException, InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            boolean fuzzy = random.nextInt(4) == 0;
+            int location = random.nextInt(LoadTestSettings.LOCATIONS.length);
+            LocalDate start = LocalDate.now().plusDays(30 + random.nextInt(300));
+            String body = """
+                    {"dates":{"startDate":"%s","endDate":"%s"},
+                     "infos":{"guests":{"value":%d},"bedrooms":{"value":%d},"beds":{"value":%d},"baths":{"value":%d}},
+                     "location":"%s"}""".formatted(startOfDay(start), startOfDay(start.plusDays(3)),
+                    1 + random.nextInt(4), 1 + random.nextInt(3), 1 + random.nextInt(3), 1 + random.nextInt(2),
+                    fuzzy ? LoadTestSettings.MISSPELLED_LOCATIONS[location] : LoadTestSettings.LOCATIONS[location]);
+            send(fuzzy ? Step.FUZZY_SEARCH : Step.SEARCH, post("/api/tenant-listing/search?page=0&size=20", body));
+        }
+
+        private void book() throws IOException, InterruptedException {
+            String listingPublicId = randomListing();
+            send(Step.CHECK_AVAILABILITY, get("/api/booking/check-availability?listingPublicId=" + listingPublicId));
+            LocalDate start = LocalDate.now().plusDays(200 + ThreadLocalRandom.current().nextInt(500));
+            send(Step.QUOTE, get("/api/booking/quote?listingPublicId=" + listingPublicId
+                    + "&startDate=" + start + "&endDate=" + start.plusDays(2)));
+            String body = """
+                    {"startDate":"%s","endDate":"%s","listingPublicId":"%s"}""".formatted(
+                    startOfDay(start), startOfDay(start.plusDays(2)), listingPublicId);
+            send(Step.BOOK, post("/api/booking/create", body));
+        }
+
+        private void cancel() throws IOException, InterruptedException {
+            HttpResponse<String> booked = send(Step.BOOKED_LISTINGS, get("/api/booking/get-booked-listing"));
+            if (booked.statusCode() != 200) {
+                return;
+            }
+            JsonNode bookings = objectMapper.readTree(booked.body());
+            if (bookings.isEmpty()) {
+                return;
+            }
+            JsonNode booking = bookings.get(ThreadLocalRandom.current().nextInt(bookings.size()));
+            send(Step.CANCEL, withCsrf(request("/api/booking/cancel?bookingPublicId=" + booking.path("bookingPublicId").asText()
+                    + "&listingPublicId=" + booking.path("listingPublicId").asText() + "&byLandlord=false"))
+                    .DELETE().build());
+        }
+
+        private void landlordDashboard() throws IOException, InterruptedException {
+            send(Step.LANDLORD_LISTINGS, get("/api/landlord-listing/get-all"));
+            send(Step.LANDLORD_BOOKINGS, get("/api/booking/get-booked-listing-for-landlord"));
+        }
+
+        private HttpResponse<String> send(Step step, HttpRequest request) throws IOException, InterruptedException {
+            LatencyRecorder recorder = recorders.get(step);
+            long start = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                if (recording) {
+                    recorder.recordError();
+                }
+                throw e;
+            }
+            if (recording) {
+                recorder.record(System.nanoTime() - start);
+                if (response.statusCode() == 400 && step == Step.BOOK) {
+                    recorder.recordRejection();
+                } else if (response.statusCode() >= 400) {
+                    recorder.recordError();
+                }
+            }
+            return response;
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Accept", "application/json");
+        }
+
+        private HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        private HttpRequest post(String path, String body) {
+            return withCsrf(request(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private HttpRequest.Builder withCsrf(HttpRequest.Builder builder) {
+            Optional<String> csrfToken = csrfToken();
+            return csrfToken.isPresent() ? builder.header(CSRF_HEADER, csrfToken.get()) : builder;
+        }
+
+        private boolean hasCsrfToken() {
+            return csrfToken().isPresent();
+        }
+
+        private Optional<String> csrfToken() {
+            return cookieManager.getCookieStore().getCookies().stream()
+                    .filter(cookie -> CSRF_COOKIE.equals(cookie.getName()))
+                    .map(HttpCookie::getValue)
+                    .findFirst();
+        }
+
+        private String randomListing() {
+            return listingPublicIds.get(ThreadLocalRandom.current().nextInt(listingPublicIds.size()));
+        }
+
+        private static String startOfDay(LocalDate date) {
+            return date.atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+        }
+    }
+}
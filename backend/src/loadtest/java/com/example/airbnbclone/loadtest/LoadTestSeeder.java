@@ -0,0 +1,194 @@
+package com.example.airbnbclone.loadtest;
+
+import com.example.airbnbclone.infrastructure.config.SecurityUtils;
+import com.example.airbnbclone.listing.domain.BookingCategory;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Fills the schema created by Liquibase with tenants, landlords, listings, pictures and bookings. Users are created
+ * with deterministic emails so that {@link LoadTestRunner} can issue their tokens without reading the database.
+ * <p>
+ * Start the backend once before seeding so that the changelogs have run.
+ */
+public class LoadTestSeeder {
+
+    private static final String SCHEMA = "airbnb_clone";
+    private static final int BATCH_SIZE = 500;
+
+    private final LoadTestSettings settings;
+    private final Random random = new Random(42);
+
+    LoadTestSeeder(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (Connection connection = DriverManager.getConnection(settings.jdbcUrl(), settings.jdbcUser(), settings.jdbcPassword())) {
+            connection.setSchema(SCHEMA);
+            connection.setAutoCommit(false);
+            new LoadTestSeeder(settings).seed(connection);
+        }
+    }
+
+    void seed(Connection connection) throws SQLException {
+        long start = System.nanoTime();
+        List<UUID> tenants = insertUsers(connection, LoadTestSettings.TENANT_EMAIL, settings.tenants(), SecurityUtils.ROLE_TENANT);
+        List<UUID> landlords = insertUsers(connection, LoadTestSettings.LANDLORD_EMAIL, settings.landlords(), SecurityUtils.ROLE_LANDLORD);
+        List<SeededListing> listings = insertListings(connection, landlords);
+        insertPictures(connection, listings);
+        insertBookings(connection, listings, tenants);
+        System.out.printf("Seeded %d tenants, %d landlords, %d listings in %d ms%n", tenants.size(), landlords.size(),
+                listings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<UUID> insertUsers(Connection connection, String emailPattern, int count, String role) throws SQLException {
+        List<UUID> publicIds = new ArrayList<>(count);
+        String insertUser = "INSERT INTO airbnb_user (id, public_id, first_name, last_name, email, created_date, last_modified_date)" +
+                " VALUES (nextval('user_generator'), ?, ?, ?, ?, now(), now()) ON CONFLICT DO NOTHING";
+        String insertAuthorities = "INSERT INTO user_authority (user_id, authority_name)" +
+                " SELECT id, authority.name FROM airbnb_user, authority WHERE email = ? AND authority.name IN (?, ?)" +
+                " ON CONFLICT DO NOTHING";
+        try (PreparedStatement userStatement = connection.prepareStatement(insertUser);
+             PreparedStatement authorityStatement = connection.prepareStatement(insertAuthorities)) {
+            for (int i = 0; i < count; i++) {
+                String email = emailPattern.formatted(i);
+                UUID publicId = UUID.nameUUIDFromBytes(email.getBytes());
+                publicIds.add(publicId);
+                userStatement.setObject(1, publicId);
+                userStatement.setString(2, "Load");
+                userStatement.setString(3, "Test " + i);
+                userStatement.setString(4, email);
+                userStatement.addBatch();
+                authorityStatement.setString(1, email);
+                authorityStatement.setString(2, SecurityUtils.ROLE_TENANT);
+                authorityStatement.setString(3, role);
+                authorityStatement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    userStatement.executeBatch();
+                    authorityStatement.executeBatch();
+                }
+            }
+            userStatement.executeBatch();
+            authorityStatement.executeBatch();
+        }
+        connection.commit();
+        return publicIds;
+    }
+
+    private List<SeededListing> insertListings(Connection connection, List<UUID> landlords) throws SQLException {
+        BookingCategory[] categories = BookingCategory.values();
+        List<SeededListing> listings = new ArrayList<>(settings.listings());
+        String insertListing = "INSERT INTO listing (id, public_id, title, description, guests, bedrooms, beds, bathrooms," +
+                " price, category, location_id, landlord_public_id, created_date, last_modified_date)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, (SELECT id FROM location WHERE code = ?), ?, now(), now())";
+        List<Long> ids = reserveIds(connection, "listing_generator", settings.listings());
+        try (PreparedStatement statement = connection.prepareStatement(insertListing)) {
+            for (int i = 0; i < settings.listings(); i++) {
+                SeededListing listing = new SeededListing(ids.get(i), UUID.randomUUID(), 50 + random.nextInt(450));
+                listings.add(listing);
+                statement.setLong(1, listing.id());
+                statement.setObject(2, listing.publicId());
+                statement.setString(3, "Load test listing " + i);
+                statement.setString(4, "Generated listing for load testing");
+                statement.setInt(5, 1 + random.nextInt(4));
+                statement.setInt(6, 1 + random.nextInt(3));
+                statement.setInt(7, 1 + random.nextInt(3));
+                statement.setInt(8, 1 + random.nextInt(2));
+                statement.setInt(9, listing.price());
+                statement.setShort(10, categories[1 + random.nextInt(categories.length - 1)].getCode());
+                statement.setString(11, LoadTestSettings.LOCATIONS[random.nextInt(LoadTestSettings.LOCATIONS.length)]);
+                statement.setObject(12, landlords.get(random.nextInt(landlords.size())));
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return listings;
+    }
+
+    private void insertPictures(Connection connection, List<SeededListing> listings) throws SQLException {
+        String insertPicture = "INSERT INTO listing_picture (id, listing_fk, file, is_cover, file_content_type, created_date, last_modified_date)" +
+                " VALUES (nextval('listing_picture_generator'), ?, lo_from_bytea(0, ?), ?, 'image/jpeg', now(), now())";
+        int pending = 0;
+        try (PreparedStatement statement = connection.prepareStatement(insertPicture)) {
+            for (SeededListing listing : listings) {
+                for (int i = 0; i < settings.picturesPerListing(); i++) {
+                    byte[] file = new byte[settings.pictureSize()];
+                    random.nextBytes(file);
+                    statement.setLong(1, listing.id());
+                    statement.setBytes(2, file);
+                    statement.setBoolean(3, i == 0);
+                    statement.addBatch();
+                    if (++pending % 50 == 0) {
+                        statement.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            statement.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE listing SET cover_picture_id = picture.id FROM listing_picture picture" +
+                    " WHERE picture.listing_fk = listing.id AND picture.is_cover = true AND listing.cover_picture_id IS NULL");
+        }
+        connection.commit();
+    }
+
+    private void insertBookings(Connection connection, List<SeededListing> listings, List<UUID> tenants) throws SQLException {
+        String insertBooking = "INSERT INTO booking (id, start_date, end_date, total_price, nb_of_travelers, public_id," +
+                " fk_listing, fk_tenant, created_date, last_modified_date)" +
+                " VALUES (nextval('booking_generator'), ?, ?, ?, ?, ?, ?, ?, now(), now())";
+        OffsetDateTime firstStart = LocalDate.now().minusDays(180).atStartOfDay().atOffset(ZoneOffset.UTC);
+        int pending = 0;
+        try (PreparedStatement statement = connection.prepareStatement(insertBooking)) {
+            for (SeededListing listing : listings) {
+                for (int i = 0; i < settings.bookingsPerListing(); i++) {
+                    int nights = 1 + random.nextInt(6);
+                    OffsetDateTime start = firstStart.plusDays(i * 10L + random.nextInt(3));
+                    statement.setObject(1, start);
+                    statement.setObject(2, start.plusDays(nights));
+                    statement.setInt(3, nights * listing.price());
+                    statement.setInt(4, 1 + random.nextInt(4));
+                    statement.setObject(5, UUID.randomUUID());
+                    statement.setObject(6, listing.publicId());
+                    statement.setObject(7, tenants.get(random.nextInt(tenants.size())));
+                    statement.addBatch();
+                    if (++pending % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static List<Long> reserveIds(Connection connection, String sequence, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)")) {
+            statement.setInt(1, count);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private record SeededListing(long id, UUID publicId, int price) {
+    }
+}
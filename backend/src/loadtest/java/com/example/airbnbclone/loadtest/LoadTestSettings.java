@@ -0,0 +1,60 @@
+package com.example.airbnbclone.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties so they can be passed with {@code -D} on the
+ * Maven command line.
+ */
+record LoadTestSettings(String baseUrl,
+                        String jdbcUrl,
+                        String jdbcUser,
+                        String jdbcPassword,
+                        String issuer,
+                        String jwtSecret,
+                        int tenants,
+                        int landlords,
+                        int listings,
+                        int picturesPerListing,
+                        int pictureSize,
+                        int bookingsPerListing,
+                        int virtualUsers,
+                        Duration duration,
+                        Duration warmup) {
+
+    static final String TENANT_EMAIL = "tenant-%d@loadtest.local";
+    static final String LANDLORD_EMAIL = "landlord-%d@loadtest.local";
+    static final String[] LOCATIONS = {"FRA", "ESP", "ITA", "PRT", "GRC", "USA", "MEX", "MAR", "JPN", "BRA"};
+    static final String[] MISSPELLED_LOCATIONS = {"Frence", "Espana", "Italie", "Portugl", "Grece", "Unted States",
+            "Mexco", "Marocco", "Japn", "Brazl"};
+
+    /**
+     * Same secret as the backend, there is no default so that a forgotten variable does not leave a known key.
+     */
+    private static String requiredJwtSecret() {
+        String jwtSecret = System.getProperty("loadtest.jwt-secret", System.getenv("LOADTEST_JWT_SECRET"));
+        if (jwtSecret == null || jwtSecret.isBlank()) {
+            throw new IllegalStateException("Set LOADTEST_JWT_SECRET or -Dloadtest.jwt-secret to the secret of the backend");
+        }
+        return jwtSecret;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.base-url", "http://localhost:8080"),
+                System.getProperty("loadtest.jdbc-url", "jdbc:postgresql://localhost:5432/airbnb_clone"),
+                System.getProperty("loadtest.jdbc-user", "postgres"),
+                System.getProperty("loadtest.jdbc-password", "postgres"),
+                System.getProperty("loadtest.issuer", "http://localhost:8080/loadtest/"),
+                requiredJwtSecret(),
+                Integer.getInteger("loadtest.tenants", 1000),
+                Integer.getInteger("loadtest.landlords", 100),
+                Integer.getInteger("loadtest.listings", 2000),
+                Integer.getInteger("loadtest.pictures-per-listing", 5),
+                Integer.getInteger("loadtest.picture-size", 50_000),
+                Integer.getInteger("loadtest.bookings-per-listing", 10),
+                Integer.getInteger("loadtest.virtual-users", 100),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60L)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10L)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.airbnbclone.loadtest;
+
+import com.example.airbnbclone.infrastructure.config.SecurityUtils;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Issues the HS256 access tokens accepted by the {@code loadtest} profile of the backend. Claims mirror the ones
+ * Auth0 puts in a token, including the roles namespace read by {@link SecurityUtils}.
+ */
+class LoadTestTokenIssuer {
+
+    private final String issuer;
+    private final MACSigner signer;
+
+    LoadTestTokenIssuer(String issuer, String secret) {
+        this.issuer = issuer;
+        try {
+            this.signer = new MACSigner(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("The load test secret must be at least 32 bytes long", e);
+        }
+    }
+
+    String issue(String email, String firstName, String lastName, List<String> roles, Duration validity) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject("loadtest|" + email)
+                .audience("airbnb-clone")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(validity)))
+                .claim("email", email)
+                .claim("given_name", firstName)
+                .claim("family_name", lastName)
+                .claim(SecurityUtils.CLAIMS_NAMESPACE, roles)
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Cannot sign load test token for " + email, e);
+        }
+        return jwt.serialize();
+    }
+}
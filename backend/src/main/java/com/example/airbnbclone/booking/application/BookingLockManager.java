@@ -0,0 +1,75 @@
+package com.example.airbnbclone.booking.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Orders booking attempts per listing with a fixed set of fair lock stripes, so a hot listing queues its writers
+ * instead of letting them all race to the exclusion constraint. Waiting is bounded in time and in queue length.
+ */
+@Component
+public class BookingLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final long waitTimeoutMillis;
+    private final int maxWaitersPerStripe;
+    private final boolean advisoryLockEnabled;
+
+    public BookingLockManager(@Value("${application.booking.lock.stripes:256}") int stripeCount,
+                              @Value("${application.booking.lock.wait-timeout-ms:2000}") long waitTimeoutMillis,
+                              @Value("${application.booking.lock.max-waiters:32}") int maxWaitersPerStripe,
+                              @Value("${application.booking.lock.advisory-enabled:false}") boolean advisoryLockEnabled) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock(true);
+        }
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.maxWaitersPerStripe = maxWaitersPerStripe;
+        this.advisoryLockEnabled = advisoryLockEnabled;
+    }
+
+    /**
+     * Runs the action while holding the stripe of the listing. Returns empty without running it when the stripe is
+     * already too crowded or could not be acquired in time.
+     */
+    public <T> Optional<T> executeWithListingLock(UUID listingPublicId, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(listingPublicId);
+        if (lock.getQueueLength() >= maxWaitersPerStripe) {
+            return Optional.empty();
+        }
+        try {
+            if (!lock.tryLock(waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return Optional.empty();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(action.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isAdvisoryLockEnabled() {
+        return advisoryLockEnabled;
+    }
+
+    public static long advisoryLockKey(UUID listingPublicId) {
+        return listingPublicId.getMostSignificantBits() ^ listingPublicId.getLeastSignificantBits();
+    }
+
+    private ReentrantLock stripeFor(UUID listingPublicId) {
+        int hash = listingPublicId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+}
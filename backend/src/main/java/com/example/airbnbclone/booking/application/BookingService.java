@@ -2,62 +2,145 @@ package com.example.airbnbclone.booking.application;
 
 import com.example.airbnbclone.booking.application.dto.BookedDateDTO;
 import com.example.airbnbclone.booking.application.dto.BookedListingDTO;
+import com.example.airbnbclone.booking.application.dto.BookingBatchResultDTO;
+import com.example.airbnbclone.booking.application.dto.BookingQuoteDTO;
 import com.example.airbnbclone.booking.application.dto.NewBookingDTO;
+import com.example.airbnbclone.booking.application.dto.NightlyPriceDTO;
 import com.example.airbnbclone.booking.domain.Booking;
+import com.example.airbnbclone.booking.domain.OccupancyCalendar;
 import com.example.airbnbclone.booking.mapper.BookingMapper;
+import com.example.airbnbclone.booking.repository.BookingBatchRepository;
 import com.example.airbnbclone.booking.repository.BookingRepository;
 import com.example.airbnbclone.infrastructure.config.SecurityUtils;
 import com.example.airbnbclone.listing.application.LandlordService;
 import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
 import com.example.airbnbclone.listing.application.dto.ListingCreateBookingDTO;
 import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
 import com.example.airbnbclone.sharedkernel.service.State;
+import com.example.airbnbclone.sharedkernel.service.StatusNotification;
 import com.example.airbnbclone.user.application.UserService;
 import com.example.airbnbclone.user.application.dto.ReadUserDTO;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class BookingService {
 
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    private static final String BOOKING_OVERLAP_CONSTRAINT = "booking_no_overlap";
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+    private static final String LISTING_BUSY_ERROR = "Listing is busy, please try again";
+    private static final String ALREADY_BOOKED_ERROR = "One booking already exists";
+    private static final String LISTING_NOT_FOUND_ERROR = "Landlord public id not found";
+    private static final String INVALID_DATES_ERROR = "End date must be after start date";
+    private static final int MAX_QUOTE_NIGHTS = 365;
+
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
     private final UserService userService;
     private final LandlordService landlordService;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingLockManager bookingLockManager;
+    private final BookingBatchRepository bookingBatchRepository;
 
     public BookingService(BookingRepository bookingRepository, BookingMapper bookingMapper,
-                          UserService userService, LandlordService landlordService) {
+                          UserService userService, LandlordService landlordService,
+                          PlatformTransactionManager transactionManager, BookingLockManager bookingLockManager,
+                          BookingBatchRepository bookingBatchRepository) {
         this.bookingRepository = bookingRepository;
         this.bookingMapper = bookingMapper;
         this.userService = userService;
         this.landlordService = landlordService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookingLockManager = bookingLockManager;
+        this.bookingBatchRepository = bookingBatchRepository;
     }
 
-    @Transactional
+    /**
+     * The overlap check is only a fast path, the booking_no_overlap exclusion constraint is the real guard.
+     * The transaction is driven from here so a violation can be reported once it has been rolled back.
+     */
     public State<Void, String> create(NewBookingDTO newBookingDTO) {
+        ReadUserDTO connectedUser = userService.getAuthenticatedUserFromSecurityContext();
+        State<UUID, String> createState = createWithListingLock(newBookingDTO, connectedUser);
+        if (createState.isSuccess()) {
+            return State.<Void, String>builder().forSuccess();
+        } else {
+            return State.<Void, String>builder().forError(createState.getError());
+        }
+    }
+
+    private State<UUID, String> createWithListingLock(NewBookingDTO newBookingDTO, ReadUserDTO connectedUser) {
+        return bookingLockManager.executeWithListingLock(newBookingDTO.listingPublicId(),
+                        () -> createWithRetry(newBookingDTO, connectedUser))
+                .orElseGet(() -> State.<UUID, String>builder().forError(LISTING_BUSY_ERROR));
+    }
+
+    private State<UUID, String> createWithRetry(NewBookingDTO newBookingDTO, ReadUserDTO connectedUser) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> createInTransaction(newBookingDTO, connectedUser));
+            } catch (DataIntegrityViolationException e) {
+                if (isBookingOverlapViolation(e)) {
+                    return State.<UUID, String>builder().forError(ALREADY_BOOKED_ERROR);
+                }
+                throw e;
+            } catch (TransientDataAccessException e) {
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private State<UUID, String> createInTransaction(NewBookingDTO newBookingDTO, ReadUserDTO connectedUser) {
+        if (!hasValidDates(newBookingDTO)) {
+            return State.<UUID, String>builder().forError(INVALID_DATES_ERROR);
+        }
+
         Booking booking = bookingMapper.newBookingToBooking(newBookingDTO);
 
         Optional<ListingCreateBookingDTO> listingOpt = landlordService.getByListingPublicId(newBookingDTO.listingPublicId());
 
         if (listingOpt.isEmpty()) {
-            return State.<Void, String>builder().forError("Landlord public id not found");
+            return State.<UUID, String>builder().forError(LISTING_NOT_FOUND_ERROR);
+        }
+
+        if (bookingLockManager.isAdvisoryLockEnabled()
+                && !bookingRepository.tryAdvisoryTransactionLock(BookingLockManager.advisoryLockKey(newBookingDTO.listingPublicId()))) {
+            return State.<UUID, String>builder().forError(LISTING_BUSY_ERROR);
         }
 
         boolean alreadyBooked = bookingRepository.bookingExistsAtInterval(newBookingDTO.startDate(), newBookingDTO.endDate(), newBookingDTO.listingPublicId());
 
         if (alreadyBooked) {
-            return State.<Void, String>builder().forError("One booking already exists");
+            return State.<UUID, String>builder().forError(ALREADY_BOOKED_ERROR);
         }
 
-        ListingCreateBookingDTO listingCreateBookingDTO = listingOpt.get();
-        booking.setFkListing(listingCreateBookingDTO.listingPublicId());
+        fillNewBooking(booking, newBookingDTO, listingOpt.get(), connectedUser);
 
-        ReadUserDTO connectedUser = userService.getAuthenticatedUserFromSecurityContext();
+        bookingRepository.saveAndFlush(booking);
+
+        return State.<UUID, String>builder().forSuccess(booking.getPublicId());
+    }
+
+    private void fillNewBooking(Booking booking, NewBookingDTO newBookingDTO,
+                                ListingCreateBookingDTO listingCreateBookingDTO, ReadUserDTO connectedUser) {
+        booking.setFkListing(listingCreateBookingDTO.listingPublicId());
         booking.setFkTenant(connectedUser.publicId());
         booking.setNumberOfTravelers(1);
 
@@ -65,12 +148,117 @@ public class BookingService {
             throw new IllegalArgumentException("Start date or end date cannot be null");
         }
 
-        long numberOfNights = ChronoUnit.DAYS.between(newBookingDTO.startDate(), newBookingDTO.endDate());
-        booking.setTotalPrice((int) (numberOfNights * listingCreateBookingDTO.price().value()));
+        booking.setTotalPrice((int) listingCreateBookingDTO.nightlyRates()
+                .totalPrice(newBookingDTO.startDate().toLocalDate(),
+                        localDate(newBookingDTO.endDate(), newBookingDTO.startDate().getOffset())));
+    }
+
+    /**
+     * Calendar date of the instant for a user at {@code offset}, so that nights are priced and counted on the days
+     * the user picked rather than on their UTC dates.
+     */
+    private static LocalDate localDate(OffsetDateTime dateTime, ZoneOffset offset) {
+        return dateTime.withOffsetSameInstant(offset).toLocalDate();
+    }
+
+    /**
+     * Validates the whole batch with one listing fetch and one overlap query, then inserts the accepted bookings
+     * in a single JDBC batch. If a concurrent booking wins a race in between, the accepted bookings are replayed one
+     * by one through the single-booking path so that every result stays accurate; rejected ones keep their error.
+     */
+    public List<BookingBatchResultDTO> createAll(List<NewBookingDTO> newBookings) {
+        ReadUserDTO connectedUser = userService.getAuthenticatedUserFromSecurityContext();
+        List<BookingBatchResultDTO> results = new ArrayList<>(newBookings.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> createAllInTransaction(newBookings, connectedUser, results));
+        } catch (DataIntegrityViolationException e) {
+            if (!isBookingOverlapViolation(e)) {
+                throw e;
+            }
+            for (int index = 0; index < results.size(); index++) {
+                if (results.get(index).status() != StatusNotification.OK) {
+                    continue;
+                }
+                NewBookingDTO newBooking = newBookings.get(index);
+                State<UUID, String> createState = createWithListingLock(newBooking, connectedUser);
+                results.set(index, new BookingBatchResultDTO(index, newBooking.listingPublicId(), createState.getValue(),
+                        createState.getStatus(), createState.getError()));
+            }
+        }
+        return results;
+    }
+
+    private void createAllInTransaction(List<NewBookingDTO> newBookings, ReadUserDTO connectedUser,
+                                        List<BookingBatchResultDTO> results) {
+        List<UUID> listingPublicIds = newBookings.stream().map(NewBookingDTO::listingPublicId).distinct().toList();
+        Map<UUID, ListingCreateBookingDTO> listingsByPublicId = landlordService.getAllByListingPublicIds(listingPublicIds)
+                .stream()
+                .collect(Collectors.toMap(ListingCreateBookingDTO::listingPublicId, Function.identity()));
+
+        Map<UUID, List<BookedDateDTO>> bookedDatesByListing = new HashMap<>();
+        if (!listingsByPublicId.isEmpty()) {
+            OffsetDateTime windowStart = newBookings.stream().map(NewBookingDTO::startDate).min(Comparator.naturalOrder()).orElseThrow();
+            OffsetDateTime windowEnd = newBookings.stream().map(NewBookingDTO::endDate).max(Comparator.naturalOrder()).orElseThrow();
+            for (Booking existingBooking : bookingRepository.findAllMatchWithDate(List.copyOf(listingsByPublicId.keySet()), windowStart, windowEnd)) {
+                bookedDatesByListing.computeIfAbsent(existingBooking.getFkListing(), key -> new ArrayList<>())
+                        .add(new BookedDateDTO(existingBooking.getStartDate(), existingBooking.getEndDate()));
+            }
+        }
+
+        List<Booking> acceptedBookings = new ArrayList<>();
+        for (int index = 0; index < newBookings.size(); index++) {
+            NewBookingDTO newBooking = newBookings.get(index);
+            ListingCreateBookingDTO listing = listingsByPublicId.get(newBooking.listingPublicId());
+            String error = null;
+            if (!hasValidDates(newBooking)) {
+                error = INVALID_DATES_ERROR;
+            } else if (listing == null) {
+                error = LISTING_NOT_FOUND_ERROR;
+            } else {
+                List<BookedDateDTO> bookedDates = bookedDatesByListing.computeIfAbsent(listing.listingPublicId(), key -> new ArrayList<>());
+                boolean alreadyBooked = bookedDates.stream().anyMatch(bookedDate -> overlaps(bookedDate, newBooking));
+                if (alreadyBooked) {
+                    error = ALREADY_BOOKED_ERROR;
+                } else {
+                    bookedDates.add(new BookedDateDTO(newBooking.startDate(), newBooking.endDate()));
+                }
+            }
 
-        bookingRepository.save(booking);
+            if (error != null) {
+                results.add(new BookingBatchResultDTO(index, newBooking.listingPublicId(), null, StatusNotification.ERROR, error));
+            } else {
+                Booking booking = bookingMapper.newBookingToBooking(newBooking);
+                booking.setPublicId(UUID.randomUUID());
+                fillNewBooking(booking, newBooking, listing, connectedUser);
+                acceptedBookings.add(booking);
+                results.add(new BookingBatchResultDTO(index, newBooking.listingPublicId(), booking.getPublicId(), StatusNotification.OK, null));
+            }
+        }
+
+        if (!acceptedBookings.isEmpty()) {
+            bookingBatchRepository.insertAll(acceptedBookings);
+        }
+    }
 
-        return State.<Void, String>builder().forSuccess();
+    private static boolean hasValidDates(NewBookingDTO newBooking) {
+        return newBooking.endDate().isAfter(newBooking.startDate());
+    }
+
+    private static boolean overlaps(BookedDateDTO bookedDate, NewBookingDTO newBooking) {
+        return bookedDate.startDate().isBefore(newBooking.endDate()) && bookedDate.endDate().isAfter(newBooking.startDate());
+    }
+
+    private static boolean isBookingOverlapViolation(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains(BOOKING_OVERLAP_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Transactional(readOnly = true)
@@ -79,6 +267,31 @@ public class BookingService {
                 .stream().map(bookingMapper::bookingToCheckAvailability).toList();
     }
 
+    /**
+     * Price of each night of the stay and their total, as {@link #create} would charge it.
+     */
+    public State<BookingQuoteDTO, String> quote(UUID listingPublicId, LocalDate checkIn, LocalDate checkOut) {
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights < 1 || nights > MAX_QUOTE_NIGHTS) {
+            return State.<BookingQuoteDTO, String>builder()
+                    .forError("A stay must last between 1 and " + MAX_QUOTE_NIGHTS + " nights");
+        }
+
+        Optional<ListingCreateBookingDTO> listingOpt = landlordService.getCachedByListingPublicId(listingPublicId);
+        if (listingOpt.isEmpty()) {
+            return State.<BookingQuoteDTO, String>builder().forError(LISTING_NOT_FOUND_ERROR);
+        }
+
+        NightlyRateCalendar nightlyRates = listingOpt.get().nightlyRates();
+        List<NightlyPriceDTO> nightlyPrices = new ArrayList<>((int) nights);
+        for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            nightlyPrices.add(new NightlyPriceDTO(night, new PriceVO(nightlyRates.priceOf(night))));
+        }
+        PriceVO totalPrice = new PriceVO((int) nightlyRates.totalPrice(checkIn, checkOut));
+        return State.<BookingQuoteDTO, String>builder()
+                .forSuccess(new BookingQuoteDTO(listingPublicId, (int) nights, nightlyPrices, totalPrice));
+    }
+
     @Transactional(readOnly = true)
     public List<BookedListingDTO> getBookedListing() {
         ReadUserDTO connectedUser = userService.getAuthenticatedUserFromSecurityContext();
@@ -143,4 +356,46 @@ public class BookingService {
         return bookingRepository.findAllMatchWithDate(listingsId, bookedDateDTO.startDate(), bookedDateDTO.endDate())
                 .stream().map(Booking::getFkListing).toList();
     }
+
+    /**
+     * Earliest free stays of {@code nights} nights within the range for each listing, from one query over the
+     * bookings of all the listings. Nights are the calendar days at the offset of the range start, which is also the
+     * offset of the returned stays. Listings without any free stay are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<BookedDateDTO>> getEarliestFreeStays(List<UUID> listingsId, BookedDateDTO range, int nights,
+                                                              int staysPerListing) {
+        ZoneOffset offset = range.startDate().getOffset();
+        LocalDate firstNight = range.startDate().toLocalDate();
+        LocalDate lastCheckOut = localDate(range.endDate(), offset);
+        int rangeNights = (int) ChronoUnit.DAYS.between(firstNight, lastCheckOut);
+        if (listingsId.isEmpty() || rangeNights < nights) {
+            return Map.of();
+        }
+
+        Map<UUID, OccupancyCalendar> calendars = new HashMap<>();
+        for (UUID listingId : listingsId) {
+            calendars.put(listingId, new OccupancyCalendar(firstNight, rangeNights));
+        }
+        List<Booking> bookings = bookingRepository.findAllMatchWithDate(listingsId,
+                firstNight.atStartOfDay().atOffset(offset), lastCheckOut.atStartOfDay().atOffset(offset));
+        for (Booking booking : bookings) {
+            OccupancyCalendar calendar = calendars.get(booking.getFkListing());
+            if (calendar != null) {
+                calendar.book(localDate(booking.getStartDate(), offset), localDate(booking.getEndDate(), offset));
+            }
+        }
+
+        Map<UUID, List<BookedDateDTO>> freeStays = new HashMap<>();
+        calendars.forEach((listingId, calendar) -> {
+            List<BookedDateDTO> stays = calendar.earliestFreeCheckIns(nights, staysPerListing).stream()
+                    .map(checkIn -> new BookedDateDTO(checkIn.atStartOfDay().atOffset(offset),
+                            checkIn.plusDays(nights).atStartOfDay().atOffset(offset)))
+                    .toList();
+            if (!stays.isEmpty()) {
+                freeStays.put(listingId, stays);
+            }
+        });
+        return freeStays;
+    }
 }
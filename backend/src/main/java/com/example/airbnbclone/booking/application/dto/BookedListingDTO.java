@@ -1,6 +1,6 @@
 package com.example.airbnbclone.booking.application.dto;
 
-import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
+import com.example.airbnbclone.listing.application.dto.sub.CardPictureDTO;
 import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -8,7 +8,7 @@ import jakarta.validation.constraints.NotNull;
 
 import java.util.UUID;
 
-public record BookedListingDTO(@Valid PictureDTO cover,
+public record BookedListingDTO(CardPictureDTO cover,
                                @NotEmpty String location,
                                @Valid BookedDateDTO dates,
                                @Valid PriceVO totalPrice,
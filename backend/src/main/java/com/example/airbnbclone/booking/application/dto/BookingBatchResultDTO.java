@@ -0,0 +1,12 @@
+package com.example.airbnbclone.booking.application.dto;
+
+import com.example.airbnbclone.sharedkernel.service.StatusNotification;
+
+import java.util.UUID;
+
+public record BookingBatchResultDTO(int index,
+                                    UUID listingPublicId,
+                                    UUID bookingPublicId,
+                                    StatusNotification status,
+                                    String error) {
+}
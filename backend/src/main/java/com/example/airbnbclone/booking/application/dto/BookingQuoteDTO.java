@@ -0,0 +1,9 @@
+package com.example.airbnbclone.booking.application.dto;
+
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BookingQuoteDTO(UUID listingPublicId, int nights, List<NightlyPriceDTO> nightlyPrices, PriceVO totalPrice) {
+}
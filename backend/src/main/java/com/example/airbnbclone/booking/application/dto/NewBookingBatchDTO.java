@@ -0,0 +1,12 @@
+package com.example.airbnbclone.booking.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record NewBookingBatchDTO(
+        @NotEmpty @Size(max = 500) List<@NotNull @Valid NewBookingDTO> bookings) {
+}
@@ -0,0 +1,8 @@
+package com.example.airbnbclone.booking.application.dto;
+
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+
+import java.time.LocalDate;
+
+public record NightlyPriceDTO(LocalDate night, PriceVO price) {
+}
@@ -0,0 +1,55 @@
+package com.example.airbnbclone.booking.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Booked nights of one listing over a search range, one bit per night, bit 0 being the night of the first day of the
+ * range. Free stays are found by walking the runs of clear bits, so a scan costs one step per run rather than one
+ * per night.
+ */
+public final class OccupancyCalendar {
+
+    private final LocalDate firstNight;
+    private final int nights;
+    private final BitSet booked;
+
+    public OccupancyCalendar(LocalDate firstNight, int nights) {
+        this.firstNight = firstNight;
+        this.nights = nights;
+        this.booked = new BitSet(nights);
+    }
+
+    /**
+     * Marks the nights from check-in to the night before check-out, clipped to the range.
+     */
+    public void book(LocalDate checkIn, LocalDate checkOut) {
+        int from = (int) Math.max(0, ChronoUnit.DAYS.between(firstNight, checkIn));
+        int to = (int) Math.min(nights, ChronoUnit.DAYS.between(firstNight, checkOut));
+        if (from < to) {
+            booked.set(from, to);
+        }
+    }
+
+    /**
+     * Check-in days of the earliest free stays of the given length, at most {@code limit} of them.
+     */
+    public List<LocalDate> earliestFreeCheckIns(int stayNights, int limit) {
+        List<LocalDate> checkIns = new ArrayList<>();
+        int freeStart = booked.nextClearBit(0);
+        while (freeStart + stayNights <= nights && checkIns.size() < limit) {
+            int freeEnd = booked.nextSetBit(freeStart);
+            if (freeEnd < 0 || freeEnd > nights) {
+                freeEnd = nights;
+            }
+            for (int checkIn = freeStart; checkIn + stayNights <= freeEnd && checkIns.size() < limit; checkIn++) {
+                checkIns.add(firstNight.plusDays(checkIn));
+            }
+            freeStart = booked.nextClearBit(freeEnd);
+        }
+        return checkIns;
+    }
+}
@@ -3,17 +3,23 @@ package com.example.airbnbclone.booking.presentation;
 import com.example.airbnbclone.booking.application.BookingService;
 import com.example.airbnbclone.booking.application.dto.BookedDateDTO;
 import com.example.airbnbclone.booking.application.dto.BookedListingDTO;
+import com.example.airbnbclone.booking.application.dto.BookingBatchResultDTO;
+import com.example.airbnbclone.booking.application.dto.BookingQuoteDTO;
+import com.example.airbnbclone.booking.application.dto.NewBookingBatchDTO;
 import com.example.airbnbclone.booking.application.dto.NewBookingDTO;
 import com.example.airbnbclone.infrastructure.config.SecurityUtils;
+import com.example.airbnbclone.infrastructure.query.QueryBudget;
 import com.example.airbnbclone.sharedkernel.service.State;
 import com.example.airbnbclone.sharedkernel.service.StatusNotification;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,12 +44,32 @@ public class BookingResource {
         }
     }
 
+    @PostMapping("batch")
+    public ResponseEntity<List<BookingBatchResultDTO>> createBatch(@Valid @RequestBody NewBookingBatchDTO newBookingBatchDTO) {
+        return ResponseEntity.ok(bookingService.createAll(newBookingBatchDTO.bookings()));
+    }
+
     @GetMapping("check-availability")
     public ResponseEntity<List<BookedDateDTO>> checkAvailability(@RequestParam UUID listingPublicId) {
         return ResponseEntity.ok(bookingService.checkAvailability(listingPublicId));
     }
 
+    @GetMapping("quote")
+    @QueryBudget(2)
+    public ResponseEntity<BookingQuoteDTO> quote(@RequestParam UUID listingPublicId,
+                                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        State<BookingQuoteDTO, String> quoteState = bookingService.quote(listingPublicId, startDate, endDate);
+        if (quoteState.getStatus().equals(StatusNotification.ERROR)) {
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, quoteState.getError());
+            return ResponseEntity.of(problemDetail).build();
+        } else {
+            return ResponseEntity.ok(quoteState.getValue());
+        }
+    }
+
     @GetMapping("get-booked-listing")
+    @QueryBudget(4)
     public ResponseEntity<List<BookedListingDTO>> getBookedListing() {
         return ResponseEntity.ok(bookingService.getBookedListing());
     }
@@ -62,6 +88,7 @@ public class BookingResource {
     }
 
     @GetMapping("get-booked-listing-for-landlord")
+    @QueryBudget(4)
     @PreAuthorize("hasAnyRole('" + SecurityUtils.ROLE_LANDLORD + "')")
     public ResponseEntity<List<BookedListingDTO>> getBookedListingForLandlord() {
         return ResponseEntity.ok(bookingService.getBookedListingForLandlord());
@@ -0,0 +1,41 @@
+package com.example.airbnbclone.booking.repository;
+
+import com.example.airbnbclone.booking.domain.Booking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public class BookingBatchRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String insertSql;
+
+    public BookingBatchRepository(JdbcTemplate jdbcTemplate,
+                                  @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = "INSERT INTO " + schema + ".booking (id, public_id, start_date, end_date, total_price," +
+                " nb_of_travelers, fk_tenant, fk_listing, created_date, last_modified_date)" +
+                " VALUES (nextval('" + schema + ".booking_generator'), ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    public void insertAll(List<Booking> bookings) {
+        jdbcTemplate.batchUpdate(insertSql, bookings, BATCH_SIZE, (ps, booking) -> {
+            ps.setObject(1, booking.getPublicId());
+            ps.setObject(2, booking.getStartDate());
+            ps.setObject(3, booking.getEndDate());
+            ps.setInt(4, booking.getTotalPrice());
+            ps.setInt(5, booking.getNumberOfTravelers());
+            ps.setObject(6, booking.getFkTenant());
+            ps.setObject(7, booking.getFkListing());
+            ps.setTimestamp(8, Timestamp.from(booking.getCreatedDate()));
+            ps.setTimestamp(9, Timestamp.from(booking.getLastModifiedDate()));
+        });
+    }
+}
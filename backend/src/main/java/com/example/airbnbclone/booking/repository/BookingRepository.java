@@ -29,4 +29,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "NOT (booking.endDate <= :startDate or booking.startDate >= :endDate) " +
             "AND booking.fkListing IN :fkListings")
     List<Booking> findAllMatchWithDate(List<UUID> fkListings, OffsetDateTime startDate, OffsetDateTime endDate);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(long key);
 }
@@ -0,0 +1,15 @@
+package com.example.airbnbclone.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Async and scheduled work runs on the executors auto-configured by Spring Boot. With the virtual-threads profile
+ * they switch to virtual threads like Tomcat does, so background workers must not build their own thread pools.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfiguration {
+}
@@ -0,0 +1,45 @@
+package com.example.airbnbclone.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes the Hikari pool from the core count unless spring.datasource.hikari.maximum-pool-size or
+ * application.datasource.max-pool-size is set. In virtual-thread mode the pool is the only concurrency limit for
+ * database work, so it is kept fixed-size to avoid opening connections in the middle of a burst.
+ */
+@Configuration
+public class DataSourcePoolConfiguration {
+
+    private static final String HIKARI_MAX_POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    applyPoolSizing(dataSource, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void applyPoolSizing(HikariDataSource dataSource, Environment environment) {
+        if (!environment.containsProperty(HIKARI_MAX_POOL_SIZE_PROPERTY)) {
+            int configuredPoolSize = environment.getProperty("application.datasource.max-pool-size", Integer.class, 0);
+            dataSource.setMaximumPoolSize(configuredPoolSize > 0 ? configuredPoolSize : defaultPoolSize());
+        }
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+        }
+    }
+
+    static int defaultPoolSize() {
+        return Runtime.getRuntime().availableProcessors() * 2 + 1;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.airbnbclone.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Publishes the pool utilisation and counts saturation events, i.e. checks where callers were waiting for a
+ * connection or the active ratio reached application.datasource.saturation-ratio. Alert on the rate of
+ * hikaricp.pool.saturation rather than on single samples.
+ */
+@Component
+public class DataSourcePoolMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourcePoolMonitor.class);
+
+    private final HikariDataSource hikariDataSource;
+
+    private final double saturationRatio;
+
+    private final Counter saturationCounter;
+
+    public DataSourcePoolMonitor(DataSource dataSource, MeterRegistry meterRegistry,
+                                 @Value("${application.datasource.saturation-ratio:0.9}") double saturationRatio) {
+        this.hikariDataSource = dataSource instanceof HikariDataSource hikari ? hikari : null;
+        this.saturationRatio = saturationRatio;
+        String poolName = hikariDataSource != null ? hikariDataSource.getPoolName() : "none";
+        this.saturationCounter = Counter.builder("hikaricp.pool.saturation")
+                .description("Number of checks where the connection pool was saturated")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder("hikaricp.pool.utilization", this, DataSourcePoolMonitor::utilization)
+                .description("Active connections divided by the maximum pool size")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.datasource.monitor-interval-ms:5000}")
+    public void checkSaturation() {
+        HikariPoolMXBean pool = poolMXBean();
+        if (pool == null) {
+            return;
+        }
+        int awaiting = pool.getThreadsAwaitingConnection();
+        if (awaiting > 0 || utilization() >= saturationRatio) {
+            saturationCounter.increment();
+            log.warn("Connection pool {} saturated: {} active / {} max, {} waiting",
+                    hikariDataSource.getPoolName(), pool.getActiveConnections(),
+                    hikariDataSource.getMaximumPoolSize(), awaiting);
+        }
+    }
+
+    double utilization() {
+        HikariPoolMXBean pool = poolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / hikariDataSource.getMaximumPoolSize();
+    }
+
+    private HikariPoolMXBean poolMXBean() {
+        return hikariDataSource != null ? hikariDataSource.getHikariPoolMXBean() : null;
+    }
+}
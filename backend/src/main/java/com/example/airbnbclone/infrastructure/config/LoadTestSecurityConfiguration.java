@@ -0,0 +1,62 @@
+package com.example.airbnbclone.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stands in for Auth0 when load testing: bearer tokens are HS256 JWTs signed with a shared secret, and the login
+ * client registration is static so that no discovery request leaves the machine. The secret has no default, startup
+ * fails unless {@code LOADTEST_JWT_SECRET} holds at least 32 bytes.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestSecurityConfiguration {
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Value("${okta.oauth2.issuer}")
+    private String issuer;
+
+    @Bean
+    public JwtDecoder jwtDecoder(@Value("${application.loadtest.jwt-secret}") String jwtSecret) {
+        byte[] secret = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("LOADTEST_JWT_SECRET must be at least " + MIN_SECRET_BYTES + " bytes long");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret, "HmacSHA256");
+        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(key).build();
+        jwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return jwtDecoder;
+    }
+
+    @Bean
+    public ClientRegistrationRepository clientRegistrationRepository(@Value("${okta.oauth2.client-id}") String clientId,
+                                                                     @Value("${okta.oauth2.client-secret}") String clientSecret) {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("okta")
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .scope("openid", "profile", "email")
+                .issuerUri(issuer)
+                .authorizationUri(issuer + "authorize")
+                .tokenUri(issuer + "oauth/token")
+                .userInfoUri(issuer + "userinfo")
+                .jwkSetUri(issuer + ".well-known/jwks.json")
+                .userNameAttributeName("sub")
+                .build();
+        return new InMemoryClientRegistrationRepository(registration);
+    }
+}
@@ -9,10 +9,12 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -27,20 +29,32 @@ public class SecurityConfiguration {
         http.authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.GET, "api/tenant-listing/get-all-by-category").permitAll()
                         .requestMatchers(HttpMethod.GET, "api/tenant-listing/get-one").permitAll()
-                        .requestMatchers(HttpMethod.POST, "api/tenant-listing/search").permitAll()
-                        .requestMatchers(HttpMethod.GET, "api/booking/check-availability").permitAll()
-                        .requestMatchers(HttpMethod.GET, "assets/*").permitAll()
+                        .requestMatchers(HttpMethod.POST, "api/tenant-listing/search", "api/tenant-listing/search-flexible").permitAll()
+                        .requestMatchers(HttpMethod.GET, "api/tenant-listing/search-map", "api/tenant-listing/clusters",
+                                "api/tenant-listing/search-keywords").permitAll()
+                        .requestMatchers(HttpMethod.GET, "api/booking/check-availability", "api/booking/quote").permitAll()
+                        .requestMatchers(HttpMethod.GET, "api/pictures/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "assets/*", "api/assets/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "api/locations/suggest", "api/locations/get-one").permitAll()
+                        .requestMatchers(HttpMethod.GET, "actuator/health", "actuator/prometheus").permitAll()
                         .anyRequest()
                         .authenticated())
                 .csrf(csrf -> csrf.csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
                         .csrfTokenRequestHandler(requestHandler))
                 .oauth2Login(Customizer.withDefaults())
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())))
                 .oauth2Client(Customizer.withDefaults());
 
         return http.build();
     }
 
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(jwt -> new ArrayList<>(SecurityUtils.extractAuthorityFromClaims(jwt.getClaims())));
+        return converter;
+    }
+
     @Bean
     public GrantedAuthoritiesMapper userAuthoritiesMapper() {
         return authorities -> {
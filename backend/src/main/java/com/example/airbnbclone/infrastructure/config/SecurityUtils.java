@@ -69,7 +69,8 @@ public class SecurityUtils {
     }
 
     private static Collection<String> getRolesFromClaims(Map<String, Object> claims) {
-        return (List<String>) claims.get(CLAIMS_NAMESPACE);
+        Object roles = claims.get(CLAIMS_NAMESPACE);
+        return roles == null ? List.of() : (List<String>) roles;
     }
 
     private static List<SimpleGrantedAuthority> mapRolesToGrantedAuthorities(Collection<String> roles) {
@@ -0,0 +1,30 @@
+package com.example.airbnbclone.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the static assets under a content hashed file name, with the gzip or brotli variant produced at build time
+ * when the client accepts it. Clients reach the hashed name through {@link com.example.airbnbclone.infrastructure.web.AssetResource}.
+ */
+@Configuration
+public class WebResourceConfiguration implements WebMvcConfigurer {
+
+    public static final String ASSETS_PATH = "/assets/";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(ASSETS_PATH + "**")
+                .addResourceLocations("classpath:/static" + ASSETS_PATH)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.airbnbclone.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes card lists element by element to the response instead of building the whole body in memory first.
+ * Pages keep the fields the frontend reads from Spring's {@link Page} serialization.
+ */
+@Component
+public class JsonStreamWriter {
+
+    private final ObjectWriter objectWriter;
+
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void writePage(HttpServletResponse response, Page<?> page) throws IOException {
+        writePage(response, page, Map.of());
+    }
+
+    /**
+     * Writes the page followed by the given fields, e.g. aggregates computed over the whole result.
+     */
+    public void writePage(HttpServletResponse response, Page<?> page, Map<String, ?> extraFields) throws IOException {
+        try (JsonGenerator generator = open(response)) {
+            generator.writeStartObject();
+            generator.writeFieldName("content");
+            writeArray(generator, page.getContent());
+            generator.writeNumberField("totalElements", page.getTotalElements());
+            generator.writeNumberField("totalPages", page.getTotalPages());
+            generator.writeNumberField("number", page.getNumber());
+            generator.writeNumberField("size", page.getSize());
+            generator.writeNumberField("numberOfElements", page.getNumberOfElements());
+            generator.writeBooleanField("first", page.isFirst());
+            generator.writeBooleanField("last", page.isLast());
+            generator.writeBooleanField("empty", page.isEmpty());
+            for (Map.Entry<String, ?> field : extraFields.entrySet()) {
+                generator.writeFieldName(field.getKey());
+                objectWriter.writeValue(generator, field.getValue());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    public void writeList(HttpServletResponse response, List<?> values) throws IOException {
+        try (JsonGenerator generator = open(response)) {
+            writeArray(generator, values);
+        }
+    }
+
+    private JsonGenerator open(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        return objectWriter.createGenerator(response.getOutputStream());
+    }
+
+    private void writeArray(JsonGenerator generator, List<?> values) throws IOException {
+        generator.writeStartArray();
+        for (Object value : values) {
+            objectWriter.writeValue(generator, value);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.airbnbclone.infrastructure.metrics;
+
+import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.sharedkernel.service.State;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Times every public method of the application services and records the size of collection results.
+ * Timers are tagged with the booking category and page size when the method takes one, and with the
+ * {@link com.example.airbnbclone.sharedkernel.service.StatusNotification} of returned states.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String TIMER_NAME = "airbnb.service";
+    static final String RESULT_SIZE_NAME = "airbnb.service.result.size";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.example.airbnbclone..application.*Service.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable throwable) {
+            failure = throwable;
+            throw throwable;
+        } finally {
+            Tags tags = Tags.of(
+                    "class", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    "method", joinPoint.getSignature().getName(),
+                    "category", category(joinPoint.getArgs()),
+                    "pageSize", pageSizeBucket(joinPoint.getArgs()));
+            sample.stop(meterRegistry.timer(TIMER_NAME, tags.and("outcome", outcome(result, failure))));
+            Integer resultSize = resultSize(result);
+            if (resultSize != null) {
+                DistributionSummary.builder(RESULT_SIZE_NAME)
+                        .tags(tags)
+                        .register(meterRegistry)
+                        .record(resultSize);
+            }
+        }
+    }
+
+    private static String category(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof BookingCategory category) {
+                return category.name();
+            }
+        }
+        return NONE;
+    }
+
+    private static String pageSizeBucket(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Pageable pageable) {
+                if (pageable.isUnpaged()) {
+                    return "unpaged";
+                }
+                int pageSize = pageable.getPageSize();
+                if (pageSize <= 10) {
+                    return "10";
+                } else if (pageSize <= 20) {
+                    return "20";
+                } else if (pageSize <= 50) {
+                    return "50";
+                } else if (pageSize <= 100) {
+                    return "100";
+                }
+                return "over-100";
+            }
+        }
+        return NONE;
+    }
+
+    private static String outcome(Object result, Throwable failure) {
+        if (failure != null) {
+            return "EXCEPTION";
+        }
+        if (result instanceof State<?, ?> state && state.getStatus() != null) {
+            return state.getStatus().name();
+        }
+        return "OK";
+    }
+
+    private static Integer resultSize(Object result) {
+        if (result instanceof Page<?> page) {
+            return page.getNumberOfElements();
+        } else if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.airbnbclone.infrastructure.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements an endpoint may execute per request. Exceeding it logs a warning, or fails
+ * the request when application.query-count.fail-on-budget-exceeded is set, which is meant for tests.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
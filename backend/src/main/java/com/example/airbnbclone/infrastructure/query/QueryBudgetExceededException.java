@@ -0,0 +1,8 @@
+package com.example.airbnbclone.infrastructure.query;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String scope, long count, long budget) {
+        super(String.format("%s executed %d SQL statements, budget is %d", scope, count, budget));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.airbnbclone.infrastructure.query;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    static final String BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".budget";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (queryBudget != null) {
+                request.setAttribute(BUDGET_ATTRIBUTE, queryBudget.value());
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.airbnbclone.infrastructure.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final long warnThreshold;
+
+    private final boolean failOnBudgetExceeded;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, long warnThreshold, boolean failOnBudgetExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountHolder.start();
+        long count;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            count = QueryCountHolder.stop();
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", endpoint)
+                .register(meterRegistry)
+                .record(count);
+
+        Object budget = request.getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+        if (budget instanceof Integer maxQueries && count > maxQueries) {
+            QueryBudgetExceededException exceeded =
+                    new QueryBudgetExceededException(request.getMethod() + " " + endpoint, count, maxQueries);
+            if (failOnBudgetExceeded) {
+                throw exceeded;
+            }
+            log.warn(exceeded.getMessage());
+        } else if (count > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements", request.getMethod(), endpoint, count);
+        } else {
+            log.debug("{} {} executed {} SQL statements", request.getMethod(), endpoint, count);
+        }
+    }
+}
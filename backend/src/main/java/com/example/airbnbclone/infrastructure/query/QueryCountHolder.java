@@ -0,0 +1,42 @@
+package com.example.airbnbclone.infrastructure.query;
+
+/**
+ * Counts the SQL statements prepared by Hibernate on the current thread between {@link #start()} and
+ * {@link #stop()}. Statements executed outside a counting scope are ignored.
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<long[]> COUNTER = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    public static void start() {
+        COUNTER.set(new long[1]);
+    }
+
+    public static long stop() {
+        long count = current();
+        COUNTER.remove();
+        return count;
+    }
+
+    public static long current() {
+        long[] counter = COUNTER.get();
+        return counter != null ? counter[0] : 0;
+    }
+
+    static void increment() {
+        long[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    public static void assertAtMost(long budget, String scope) {
+        long count = current();
+        if (count > budget) {
+            throw new QueryBudgetExceededException(scope, count, budget);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.airbnbclone.infrastructure.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountHolder.increment();
+        return sql;
+    }
+}
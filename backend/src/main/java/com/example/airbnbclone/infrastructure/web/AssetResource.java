@@ -0,0 +1,40 @@
+package com.example.airbnbclone.infrastructure.web;
+
+import com.example.airbnbclone.infrastructure.config.WebResourceConfiguration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.net.URI;
+
+/**
+ * Redirects to the content hashed URL of an asset. The redirect is revalidated on every use while the asset behind it
+ * is cached for a year, so a new build is picked up without the client downloading unchanged assets again.
+ */
+@RestController
+@RequestMapping("/api/assets")
+public class AssetResource {
+
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    public AssetResource(ResourceUrlProvider resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @GetMapping("/{name:.+}")
+    public ResponseEntity<Void> redirect(@PathVariable String name) {
+        String versionedUrl = resourceUrlProvider.getForLookupPath(WebResourceConfiguration.ASSETS_PATH + name);
+        if (versionedUrl == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(versionedUrl))
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+}
@@ -4,7 +4,9 @@ import com.example.airbnbclone.listing.application.dto.CreatedListingDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
 import com.example.airbnbclone.listing.application.dto.ListingCreateBookingDTO;
 import com.example.airbnbclone.listing.application.dto.SaveListingDTO;
+import com.example.airbnbclone.listing.domain.GeoPoint;
 import com.example.airbnbclone.listing.domain.Listing;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
 import com.example.airbnbclone.listing.mapper.ListingMapper;
 import com.example.airbnbclone.listing.repository.ListingRepository;
 import com.example.airbnbclone.sharedkernel.service.State;
@@ -13,8 +15,11 @@ import com.example.airbnbclone.user.application.UserService;
 import com.example.airbnbclone.user.application.dto.ReadUserDTO;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,13 +32,23 @@ public class LandlordService {
     private final UserService userService;
     private final Auth0Service auth0Service;
     private final PictureService pictureService;
-
-    public LandlordService(ListingRepository listingRepository, ListingMapper listingMapper, UserService userService, Auth0Service auth0Service, PictureService pictureService) {
+    private final ListingSpatialIndex listingSpatialIndex;
+    private final ListingClusterIndex listingClusterIndex;
+    private final ListingRateService listingRateService;
+    private final ListingPriceCache listingPriceCache;
+
+    public LandlordService(ListingRepository listingRepository, ListingMapper listingMapper, UserService userService, Auth0Service auth0Service, PictureService pictureService,
+                           ListingSpatialIndex listingSpatialIndex, ListingClusterIndex listingClusterIndex, ListingRateService listingRateService,
+                           ListingPriceCache listingPriceCache) {
         this.listingRepository = listingRepository;
         this.listingMapper = listingMapper;
         this.userService = userService;
         this.auth0Service = auth0Service;
         this.pictureService = pictureService;
+        this.listingSpatialIndex = listingSpatialIndex;
+        this.listingClusterIndex = listingClusterIndex;
+        this.listingRateService = listingRateService;
+        this.listingPriceCache = listingPriceCache;
     }
 
     public CreatedListingDTO create(SaveListingDTO saveListingDTO) {
@@ -42,10 +57,22 @@ public class LandlordService {
         ReadUserDTO userConnected = userService.getAuthenticatedUserFromSecurityContext();
         newListing.setLandlordPublicId(userConnected.publicId());
 
+        Optional<GeoPoint> coordinates = listingSpatialIndex.coordinatesOf(saveListingDTO.getLocation(),
+                saveListingDTO.getLatitude(), saveListingDTO.getLongitude());
+        coordinates.ifPresent(point -> {
+            newListing.setLatitude(point.latitude());
+            newListing.setLongitude(point.longitude());
+        });
+
         Listing savedListing = listingRepository.saveAndFlush(newListing);
 
         pictureService.saveAll(saveListingDTO.getPictures(), savedListing);
 
+        coordinates.ifPresent(point -> {
+            listingSpatialIndex.put(savedListing.getPublicId(), point);
+            listingClusterIndex.add(savedListing.getPublicId(), point, savedListing.getPrice());
+        });
+
         auth0Service.addLandlordRoleToUser(userConnected);
 
         return listingMapper.listingToCreatedListingDTO(savedListing);
@@ -61,6 +88,11 @@ public class LandlordService {
     public State<UUID, String> delete(UUID publicId, ReadUserDTO landlord) {
         long deletedSuccessfuly = listingRepository.deleteByPublicIdAndLandlordPublicId(publicId, landlord.publicId());
         if (deletedSuccessfuly > 0) {
+            afterCommit(() -> {
+                listingSpatialIndex.remove(publicId);
+                listingClusterIndex.remove(publicId);
+            });
+            listingRateService.evictAfterCommit(publicId);
             return State.<UUID, String>builder().forSuccess(publicId);
         } else {
             return State.<UUID, String>builder().forUnauthorized("User not authorized to delete this listing");
@@ -68,11 +100,36 @@ public class LandlordService {
     }
 
     public Optional<ListingCreateBookingDTO> getByListingPublicId(UUID publicId) {
-        return listingRepository.findByPublicId(publicId).map(listingMapper::mapListingToListingCreateBookingDTO);
+        return listingRepository.findByPublicId(publicId)
+                .map(listing -> listingMapper.mapListingToListingCreateBookingDTO(listing, listingRateService.getCalendar(listing)));
     }
 
+    /**
+     * Same as {@link #getByListingPublicId} from {@link ListingPriceCache}, for the reads that do not need to see a
+     * change made in the same transaction.
+     */
+    public Optional<ListingCreateBookingDTO> getCachedByListingPublicId(UUID publicId) {
+        ListingCreateBookingDTO cached = listingPriceCache.get(publicId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long stamp = listingPriceCache.stamp();
+        Optional<ListingCreateBookingDTO> listing = getByListingPublicId(publicId);
+        listing.ifPresent(price -> listingPriceCache.put(price, stamp));
+        return listing;
+    }
+
+    public List<ListingCreateBookingDTO> getAllByListingPublicIds(List<UUID> publicIds) {
+        List<Listing> listings = listingRepository.findAllByPublicIdIn(publicIds);
+        Map<UUID, NightlyRateCalendar> calendars = listingRateService.getCalendars(listings);
+        return listings.stream()
+                .map(listing -> listingMapper.mapListingToListingCreateBookingDTO(listing, calendars.get(listing.getPublicId())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public List<DisplayCardListingDTO> getCardDisplayByListingPublicId(List<UUID> allListingPublicIDs) {
-        return listingRepository.findAllByPublicIdIn(allListingPublicIDs)
+        return listingRepository.findAllByPublicIdInFetchCoverPicture(allListingPublicIDs)
                 .stream()
                 .map(listingMapper::listingToDisplayCardListingDTO)
                 .toList();
@@ -80,7 +137,23 @@ public class LandlordService {
 
     @Transactional(readOnly = true)
     public Optional<DisplayCardListingDTO> getByPublicIdAndLandlordPublicId(UUID listingPublicId, UUID landlordPublicId) {
-        return listingRepository.findOneByPublicIdAndLandlordPublicId(listingPublicId, landlordPublicId)
+        return listingRepository.findOneByPublicIdAndLandlordPublicIdFetchCoverPicture(listingPublicId, landlordPublicId)
                 .map(listingMapper::listingToDisplayCardListingDTO);
     }
+
+    /**
+     * Keeps the in-memory indexes in line with the database: a rolled back change must not reach them.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,182 @@
+package com.example.airbnbclone.listing.application;
+
+import com.example.airbnbclone.listing.application.dto.ListingClusterDTO;
+import com.example.airbnbclone.listing.application.dto.sub.ListingCoordinatesDTO;
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.example.airbnbclone.listing.domain.GeoBounds;
+import com.example.airbnbclone.listing.domain.GeoPoint;
+import com.example.airbnbclone.listing.domain.Geohash;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Count, centroid and minimum price of the listings in each geohash cell, for every precision the map can ask for.
+ * Aggregates are updated when a listing is added or removed, so a cluster query only reads the cells in view.
+ */
+@Component
+public class ListingClusterIndex {
+
+    static final int MIN_PRECISION = 1;
+    static final int MAX_PRECISION = 6;
+
+    /**
+     * Geohash precision per map zoom level, giving a few dozen cells across a typical viewport.
+     */
+    private static final int[] PRECISION_BY_ZOOM = {1, 1, 2, 2, 3, 3, 3, 4, 4, 4, 5, 5, 5, 6};
+
+    private static final Logger log = LoggerFactory.getLogger(ListingClusterIndex.class);
+
+    private final ListingRepository listingRepository;
+    private final ListingSpatialIndex listingSpatialIndex;
+
+    private final List<Map<Long, Cell>> cellsByPrecision = new ArrayList<>();
+    private final Map<UUID, Member> members = new ConcurrentHashMap<>();
+
+    public ListingClusterIndex(ListingRepository listingRepository, ListingSpatialIndex listingSpatialIndex) {
+        this.listingRepository = listingRepository;
+        this.listingSpatialIndex = listingSpatialIndex;
+        for (int precision = 0; precision <= MAX_PRECISION; precision++) {
+            cellsByPrecision.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        try (Stream<ListingCoordinatesDTO> coordinates = listingRepository.streamAllCoordinates()) {
+            coordinates.forEach(listing -> listingSpatialIndex
+                    .coordinatesOf(listing.location(), listing.latitude(), listing.longitude())
+                    .ifPresent(point -> add(listing.publicId(), point, listing.price())));
+        }
+        log.info("Aggregated {} listings in clusters in {} ms", members.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public synchronized void add(UUID publicId, GeoPoint point, int price) {
+        remove(publicId);
+        members.put(publicId, new Member(point, price));
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            cellsByPrecision.get(precision)
+                    .computeIfAbsent(cellKey(point, precision), key -> new Cell())
+                    .add(point, price);
+        }
+    }
+
+    public synchronized void remove(UUID publicId) {
+        Member member = members.remove(publicId);
+        if (member == null) {
+            return;
+        }
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            cellsByPrecision.get(precision).computeIfPresent(cellKey(member.point(), precision),
+                    (key, cell) -> cell.remove(member.point(), member.price()) ? null : cell);
+        }
+    }
+
+    public static int precisionForZoom(int zoom) {
+        return PRECISION_BY_ZOOM[Math.min(Math.max(zoom, 0), PRECISION_BY_ZOOM.length - 1)];
+    }
+
+    public List<ListingClusterDTO> findClusters(GeoBounds bounds, int precision) {
+        Map<Long, Cell> cells = cellsByPrecision.get(precision);
+        int columns = columns(precision);
+        int southRow = row(bounds.south(), precision);
+        int northRow = row(bounds.north(), precision);
+        int westColumn = column(bounds.west(), precision);
+        int eastColumn = column(bounds.east(), precision);
+        int columnCount = bounds.crossesAntimeridian()
+                ? columns - westColumn + eastColumn + 1 : eastColumn - westColumn + 1;
+        long cellCount = (long) (northRow - southRow + 1) * columnCount;
+
+        List<ListingClusterDTO> clusters = new ArrayList<>();
+        if (cellCount <= cells.size()) {
+            for (int row = southRow; row <= northRow; row++) {
+                for (int i = 0; i < columnCount; i++) {
+                    Cell cell = cells.get((long) row * columns + (westColumn + i) % columns);
+                    if (cell != null) {
+                        cell.toCluster(precision).ifPresent(clusters::add);
+                    }
+                }
+            }
+        } else {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int row = (int) (entry.getKey() / columns);
+                int column = (int) (entry.getKey() % columns);
+                boolean columnInView = bounds.crossesAntimeridian()
+                        ? column >= westColumn || column <= eastColumn : column >= westColumn && column <= eastColumn;
+                if (row >= southRow && row <= northRow && columnInView) {
+                    entry.getValue().toCluster(precision).ifPresent(clusters::add);
+                }
+            }
+        }
+        return clusters;
+    }
+
+    private static long cellKey(GeoPoint point, int precision) {
+        return (long) row(point.latitude(), precision) * columns(precision) + column(point.longitude(), precision);
+    }
+
+    private static int columns(int precision) {
+        return (int) Math.round(360 / Geohash.cellWidth(precision));
+    }
+
+    private static int row(double latitude, int precision) {
+        int rows = (int) Math.round(180 / Geohash.cellHeight(precision));
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((latitude + 90) / Geohash.cellHeight(precision))));
+    }
+
+    private static int column(double longitude, int precision) {
+        return Math.min(columns(precision) - 1, Math.max(0, (int) Math.floor((longitude + 180) / Geohash.cellWidth(precision))));
+    }
+
+    private record Member(GeoPoint point, int price) {
+    }
+
+    /**
+     * Prices are kept as a multiset so that the minimum stays exact when the cheapest listing is removed.
+     */
+    private static final class Cell {
+
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private final TreeMap<Integer, Integer> prices = new TreeMap<>();
+
+        synchronized void add(GeoPoint point, int price) {
+            count++;
+            latitudeSum += point.latitude();
+            longitudeSum += point.longitude();
+            prices.merge(price, 1, Integer::sum);
+        }
+
+        /**
+         * Returns true when the cell is empty afterwards.
+         */
+        synchronized boolean remove(GeoPoint point, int price) {
+            count--;
+            latitudeSum -= point.latitude();
+            longitudeSum -= point.longitude();
+            prices.computeIfPresent(price, (key, listings) -> listings == 1 ? null : listings - 1);
+            return count == 0;
+        }
+
+        synchronized Optional<ListingClusterDTO> toCluster(int precision) {
+            if (count == 0) {
+                return Optional.empty();
+            }
+            double latitude = latitudeSum / count;
+            double longitude = longitudeSum / count;
+            return Optional.of(new ListingClusterDTO(Geohash.encode(latitude, longitude, precision), latitude, longitude,
+                    count, new PriceVO(prices.firstKey())));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.airbnbclone.listing.application;
+
+import com.example.airbnbclone.listing.application.dto.ListingCreateBookingDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Price data of the listings recently quoted, so that quotes are answered without reading the database. An entry is
+ * dropped when the listing or its rates change on this node, and ignored once its calendar no longer starts on the
+ * current night or it is older than the time to live, which bounds how long a change made on another node goes
+ * unnoticed. Bookings never read it.
+ * <p>
+ * A reader takes a {@link #stamp()} before loading and passes it to {@link #put}: if an eviction happened meanwhile,
+ * the loaded value may predate it and is not cached.
+ */
+@Component
+public class ListingPriceCache {
+
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final Map<UUID, CachedPrice> prices = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ListingPriceCache(@Value("${application.booking.quote.cache-size:10000}") int maxSize,
+                             @Value("${application.booking.quote.time-to-live-seconds:60}") long timeToLiveSeconds) {
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+    }
+
+    public ListingCreateBookingDTO get(UUID listingPublicId) {
+        CachedPrice cached = prices.get(listingPublicId);
+        if (cached == null || System.nanoTime() - cached.loadedAtNanos() >= timeToLiveNanos) {
+            return null;
+        }
+        ListingCreateBookingDTO price = cached.price();
+        if (!price.nightlyRates().isCurrent(LocalDate.now(ZoneOffset.UTC), price.price().value())) {
+            return null;
+        }
+        return price;
+    }
+
+    public long stamp() {
+        return evictions.get();
+    }
+
+    public void put(ListingCreateBookingDTO price, long stamp) {
+        if (prices.size() >= maxSize) {
+            prices.clear();
+        }
+        CachedPrice cached = new CachedPrice(price, System.nanoTime());
+        prices.put(price.listingPublicId(), cached);
+        if (evictions.get() != stamp) {
+            prices.remove(price.listingPublicId(), cached);
+        }
+    }
+
+    public void evict(UUID listingPublicId) {
+        evictions.incrementAndGet();
+        prices.remove(listingPublicId);
+    }
+
+    private record CachedPrice(ListingCreateBookingDTO price, long loadedAtNanos) {
+    }
+}
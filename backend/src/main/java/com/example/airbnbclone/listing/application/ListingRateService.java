@@ -0,0 +1,117 @@
+package com.example.airbnbclone.listing.application;
+
+import com.example.airbnbclone.listing.application.dto.ListingRateDTO;
+import com.example.airbnbclone.listing.application.dto.SaveListingRatesDTO;
+import com.example.airbnbclone.listing.domain.Listing;
+import com.example.airbnbclone.listing.domain.ListingRate;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
+import com.example.airbnbclone.listing.mapper.ListingRateMapper;
+import com.example.airbnbclone.listing.repository.ListingRateRepository;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.sharedkernel.service.State;
+import com.example.airbnbclone.user.application.dto.ReadUserDTO;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Nightly rates set by landlords on top of the listing price. Rates are stored as one row per period and days of week
+ * rule, and expanded into a {@link NightlyRateCalendar} from the database whenever a stay is priced; only quotes go
+ * through {@link ListingPriceCache}.
+ */
+@Service
+public class ListingRateService {
+
+    private final ListingRateRepository listingRateRepository;
+    private final ListingRepository listingRepository;
+    private final ListingRateMapper listingRateMapper;
+    private final ListingPriceCache listingPriceCache;
+
+    public ListingRateService(ListingRateRepository listingRateRepository, ListingRepository listingRepository,
+                              ListingRateMapper listingRateMapper, ListingPriceCache listingPriceCache) {
+        this.listingRateRepository = listingRateRepository;
+        this.listingRepository = listingRepository;
+        this.listingRateMapper = listingRateMapper;
+        this.listingPriceCache = listingPriceCache;
+    }
+
+    public NightlyRateCalendar getCalendar(Listing listing) {
+        return getCalendars(List.of(listing)).get(listing.getPublicId());
+    }
+
+    /**
+     * Calendars of the listings built from their current rates with a single query.
+     */
+    public Map<UUID, NightlyRateCalendar> getCalendars(Collection<Listing> listings) {
+        if (listings.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<UUID> publicIds = listings.stream().map(Listing::getPublicId).toList();
+        Map<UUID, List<ListingRate>> ratesByListing = new HashMap<>();
+        for (ListingRate rate : listingRateRepository.findAllByFkListingInOrderById(publicIds)) {
+            ratesByListing.computeIfAbsent(rate.getFkListing(), fkListing -> new ArrayList<>()).add(rate);
+        }
+        Map<UUID, NightlyRateCalendar> calendarsByListing = new HashMap<>();
+        for (Listing listing : listings) {
+            calendarsByListing.put(listing.getPublicId(), NightlyRateCalendar.build(today, listing.getPrice(),
+                    ratesByListing.getOrDefault(listing.getPublicId(), List.of())));
+        }
+        return calendarsByListing;
+    }
+
+    @Transactional(readOnly = true)
+    public State<List<ListingRateDTO>, String> getRates(UUID listingPublicId, ReadUserDTO landlord) {
+        if (!listingRepository.existsByPublicIdAndLandlordPublicId(listingPublicId, landlord.publicId())) {
+            return State.<List<ListingRateDTO>, String>builder().forUnauthorized("User not authorized to read the rates of this listing");
+        }
+        List<ListingRate> rates = listingRateRepository.findAllByFkListingOrderById(listingPublicId);
+        return State.<List<ListingRateDTO>, String>builder().forSuccess(listingRateMapper.listingRatesToListingRateDTOs(rates));
+    }
+
+    @Transactional
+    public State<List<ListingRateDTO>, String> replaceRates(SaveListingRatesDTO saveListingRatesDTO, ReadUserDTO landlord) {
+        UUID listingPublicId = saveListingRatesDTO.listingPublicId();
+        if (!listingRepository.existsByPublicIdAndLandlordPublicId(listingPublicId, landlord.publicId())) {
+            return State.<List<ListingRateDTO>, String>builder().forUnauthorized("User not authorized to edit the rates of this listing");
+        }
+        LocalDate horizonEnd = LocalDate.now(ZoneOffset.UTC).plusDays(NightlyRateCalendar.HORIZON_DAYS);
+        for (ListingRateDTO rate : saveListingRatesDTO.rates()) {
+            if (rate.endDate().isAfter(horizonEnd)) {
+                return State.<List<ListingRateDTO>, String>builder()
+                        .forError("Rates can't end after " + horizonEnd);
+            }
+        }
+
+        listingRateRepository.deleteAllByFkListing(listingPublicId);
+        List<ListingRate> rates = saveListingRatesDTO.rates().stream()
+                .map(listingRateMapper::listingRateDTOToListingRate)
+                .toList();
+        rates.forEach(rate -> rate.setFkListing(listingPublicId));
+        List<ListingRate> savedRates = listingRateRepository.saveAll(rates);
+        evictAfterCommit(listingPublicId);
+        return State.<List<ListingRateDTO>, String>builder().forSuccess(listingRateMapper.listingRatesToListingRateDTOs(savedRates));
+    }
+
+    /**
+     * Drops the quoted price of the listing once the current transaction commits, so that no reader caches the old
+     * rates again in between.
+     */
+    public void evictAfterCommit(UUID listingPublicId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            listingPriceCache.evict(listingPublicId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                listingPriceCache.evict(listingPublicId);
+            }
+        });
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.airbnbclone.listing.application;
+
+import com.example.airbnbclone.listing.application.dto.sub.ListingCoordinatesDTO;
+import com.example.airbnbclone.listing.domain.GeoBounds;
+import com.example.airbnbclone.listing.domain.GeoPoint;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.location.application.LocationIndex;
+import com.example.airbnbclone.location.application.dto.LocationDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory grid of listing coordinates used by the map search. The world is cut into cells of
+ * {@link #CELL_DEGREES}; a viewport query only visits the cells it overlaps, or the non-empty cells when there are
+ * fewer of them, so its cost depends on the listings in view rather than on the catalog.
+ * <p>
+ * Each instance loads the grid at startup and keeps it up to date with the listings created and deleted through
+ * {@link LandlordService}. Listings without coordinates are placed at the center of their country.
+ */
+@Component
+public class ListingSpatialIndex {
+
+    static final double CELL_DEGREES = 0.25;
+
+    private static final Logger log = LoggerFactory.getLogger(ListingSpatialIndex.class);
+
+    private static final int LATITUDE_CELLS = (int) Math.ceil(180 / CELL_DEGREES);
+    private static final int LONGITUDE_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    private final ListingRepository listingRepository;
+    private final LocationIndex locationIndex;
+
+    private final Map<Integer, Set<UUID>> cells = new ConcurrentHashMap<>();
+    private final Map<UUID, GeoPoint> points = new ConcurrentHashMap<>();
+
+    public ListingSpatialIndex(ListingRepository listingRepository, LocationIndex locationIndex) {
+        this.listingRepository = listingRepository;
+        this.locationIndex = locationIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        try (Stream<ListingCoordinatesDTO> coordinates = listingRepository.streamAllCoordinates()) {
+            coordinates.forEach(listing -> coordinatesOf(listing.location(), listing.latitude(), listing.longitude())
+                    .ifPresent(point -> put(listing.publicId(), point)));
+        }
+        log.info("Indexed {} listing coordinates in {} ms", points.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * The given coordinates when both are present, otherwise the center of the country.
+     */
+    public Optional<GeoPoint> coordinatesOf(String location, Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            return Optional.of(new GeoPoint(latitude, longitude));
+        }
+        return locationIndex.getByCode(location)
+                .filter(country -> country.latitude() != null && country.longitude() != null)
+                .map(country -> new GeoPoint(country.latitude(), country.longitude()));
+    }
+
+    public synchronized void put(UUID publicId, GeoPoint point) {
+        GeoPoint previous = points.put(publicId, point);
+        if (previous != null) {
+            removeFromCell(publicId, previous);
+        }
+        cells.computeIfAbsent(cellOf(point), cell -> ConcurrentHashMap.newKeySet()).add(publicId);
+    }
+
+    public synchronized void remove(UUID publicId) {
+        GeoPoint previous = points.remove(publicId);
+        if (previous != null) {
+            removeFromCell(publicId, previous);
+        }
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * Public ids of at most {@code limit} listings inside the bounds, and within {@code radiusKm} of the center when
+     * a radius is given, nearest to the center first.
+     */
+    public List<UUID> findNearest(GeoBounds bounds, GeoPoint center, Double radiusKm, int limit) {
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distanceKm).reversed());
+        int southCell = latitudeCell(bounds.south());
+        int northCell = latitudeCell(bounds.north());
+        int westCell = longitudeCell(bounds.west());
+        int eastCell = longitudeCell(bounds.east());
+        int longitudeCellCount = bounds.crossesAntimeridian()
+                ? LONGITUDE_CELLS - westCell + eastCell + 1 : eastCell - westCell + 1;
+        long cellCount = (long) (northCell - southCell + 1) * longitudeCellCount;
+
+        if (cellCount <= cells.size()) {
+            for (int latitudeCell = southCell; latitudeCell <= northCell; latitudeCell++) {
+                for (int i = 0; i < longitudeCellCount; i++) {
+                    int longitudeCell = (westCell + i) % LONGITUDE_CELLS;
+                    collect(cells.get(latitudeCell * LONGITUDE_CELLS + longitudeCell), bounds, center, radiusKm, limit, nearest);
+                }
+            }
+        } else {
+            for (Map.Entry<Integer, Set<UUID>> cell : cells.entrySet()) {
+                int latitudeCell = cell.getKey() / LONGITUDE_CELLS;
+                if (latitudeCell >= southCell && latitudeCell <= northCell) {
+                    collect(cell.getValue(), bounds, center, radiusKm, limit, nearest);
+                }
+            }
+        }
+
+        List<UUID> publicIds = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            publicIds.add(nearest.poll().publicId());
+        }
+        Collections.reverse(publicIds);
+        return publicIds;
+    }
+
+    private void collect(Set<UUID> cell, GeoBounds bounds, GeoPoint center, Double radiusKm, int limit,
+                         PriorityQueue<Candidate> nearest) {
+        if (cell == null) {
+            return;
+        }
+        for (UUID publicId : cell) {
+            GeoPoint point = points.get(publicId);
+            if (point == null || !bounds.contains(point)) {
+                continue;
+            }
+            double distanceKm = center.distanceKm(point);
+            if (radiusKm != null && distanceKm > radiusKm) {
+                continue;
+            }
+            if (nearest.size() < limit) {
+                nearest.add(new Candidate(publicId, distanceKm));
+            } else if (distanceKm < nearest.peek().distanceKm()) {
+                nearest.poll();
+                nearest.add(new Candidate(publicId, distanceKm));
+            }
+        }
+    }
+
+    private void removeFromCell(UUID publicId, GeoPoint point) {
+        cells.computeIfPresent(cellOf(point), (cell, publicIds) -> {
+            publicIds.remove(publicId);
+            return publicIds.isEmpty() ? null : publicIds;
+        });
+    }
+
+    private static int cellOf(GeoPoint point) {
+        return latitudeCell(point.latitude()) * LONGITUDE_CELLS + longitudeCell(point.longitude());
+    }
+
+    private static int latitudeCell(double latitude) {
+        return Math.min(LATITUDE_CELLS - 1, Math.max(0, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+    }
+
+    private static int longitudeCell(double longitude) {
+        return Math.min(LONGITUDE_CELLS - 1, Math.max(0, (int) Math.floor((longitude + 180) / CELL_DEGREES)));
+    }
+
+    private record Candidate(UUID publicId, double distanceKm) {
+    }
+}
@@ -5,9 +5,18 @@ import com.example.airbnbclone.listing.domain.Listing;
 import com.example.airbnbclone.listing.domain.ListingPicture;
 import com.example.airbnbclone.listing.mapper.ListingPictureMapper;
 import com.example.airbnbclone.listing.repository.ListingPictureRepository;
+import com.example.airbnbclone.listing.repository.ListingRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
@@ -17,23 +26,68 @@ public class PictureService {
 
     private final ListingPictureMapper listingPictureMapper;
 
-    public PictureService(ListingPictureRepository listingPictureRepository, ListingPictureMapper listingPictureMapper) {
+    private final ListingRepository listingRepository;
+
+    public PictureService(ListingPictureRepository listingPictureRepository, ListingPictureMapper listingPictureMapper,
+                          ListingRepository listingRepository) {
         this.listingPictureRepository = listingPictureRepository;
         this.listingPictureMapper = listingPictureMapper;
+        this.listingRepository = listingRepository;
     }
 
     public List<PictureDTO> saveAll(List<PictureDTO> pictures, Listing listing) {
         Set<ListingPicture> listingPictures = listingPictureMapper.pictureDTOsToListingPictures(pictures);
 
-        boolean isFirst = true;
+        ListingPicture cover = null;
 
         for (ListingPicture listingPicture : listingPictures) {
-            listingPicture.setCover(isFirst);
+            listingPicture.setCover(cover == null);
             listingPicture.setListing(listing);
-            isFirst = false;
+            readDimensions(listingPicture);
+            if (cover == null) {
+                cover = listingPicture;
+            }
         }
 
         listingPictureRepository.saveAll(listingPictures);
+
+        if (cover != null) {
+            listingRepository.updateCoverPicture(listing.getId(), cover.getId());
+        }
         return listingPictureMapper.listingPictureToPictureDTO(listingPictures.stream().toList());
     }
+
+    @Transactional(readOnly = true)
+    public Optional<PictureDTO> getFile(Long id) {
+        return listingPictureRepository.findFileById(id);
+    }
+
+    /**
+     * Reads the width and height from the image header only, so that cards can reserve their space before the
+     * picture is downloaded. Pictures in a format unknown to ImageIO are stored without dimensions.
+     */
+    private static void readDimensions(ListingPicture listingPicture) {
+        if (listingPicture.getFile() == null) {
+            return;
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(listingPicture.getFile()))) {
+            if (input == null) {
+                return;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                listingPicture.setWidth(reader.getWidth(0));
+                listingPicture.setHeight(reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            // dimensions stay unknown
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package com.example.airbnbclone.listing.application;
+
+import com.example.airbnbclone.listing.application.dto.SearchDTO;
+import com.example.airbnbclone.listing.application.dto.SearchFacetsDTO;
+import com.example.airbnbclone.listing.application.dto.sub.FacetCountDTO;
+import com.example.airbnbclone.listing.application.dto.sub.ListingFacetRowDTO;
+import com.example.airbnbclone.listing.application.dto.sub.PriceBucketDTO;
+import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.location.application.LocationMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Facet counts of a tenant search, from one projection query over the listings matching the search and one pass over
+ * its rows. The capacity facet ignores the guests filter, so that the other capacities stay selectable; categories and
+ * prices count the listings matching every filter. Availability over the searched dates is not taken into account.
+ */
+@Service
+public class SearchFacetService {
+
+    private static final int[] CAPACITY_UPPER_BOUNDS = {2, 4, 6};
+    private static final String[] CAPACITY_LABELS = {"1-2", "3-4", "5-6", "7+"};
+
+    private final ListingRepository listingRepository;
+    private final LocationMatcher locationMatcher;
+    private final int priceBucketWidth;
+    private final int priceBucketCount;
+
+    public SearchFacetService(ListingRepository listingRepository, LocationMatcher locationMatcher,
+                              @Value("${application.search.facets.price-bucket-width:50}") int priceBucketWidth,
+                              @Value("${application.search.facets.price-bucket-count:10}") int priceBucketCount) {
+        this.listingRepository = listingRepository;
+        this.locationMatcher = locationMatcher;
+        this.priceBucketWidth = Math.max(1, priceBucketWidth);
+        this.priceBucketCount = Math.max(1, priceBucketCount);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchFacetsDTO getFacets(SearchDTO search) {
+        List<String> locations = locationMatcher.resolve(search.location());
+        if (locations.isEmpty()) {
+            return count(List.of(), search.infos().guests().value());
+        }
+
+        List<ListingFacetRowDTO> rows = listingRepository.findFacetRowsByLocationInAndBathroomsAndBedroomsAndBeds(
+                locations,
+                search.infos().baths().value(),
+                search.infos().bedrooms().value(),
+                search.infos().beds().value());
+        return count(rows, search.infos().guests().value());
+    }
+
+    private SearchFacetsDTO count(List<ListingFacetRowDTO> rows, int guests) {
+        BookingCategory[] categories = BookingCategory.values();
+        long[] categoryCounts = new long[categories.length];
+        long[] capacityCounts = new long[CAPACITY_LABELS.length];
+        long[] priceCounts = new long[priceBucketCount];
+
+        for (ListingFacetRowDTO row : rows) {
+            capacityCounts[capacityBucket(row.guests())]++;
+            if (row.guests() != guests) {
+                continue;
+            }
+            if (row.bookingCategory() != null) {
+                categoryCounts[row.bookingCategory().ordinal()]++;
+            }
+            priceCounts[Math.min(Math.max(row.price(), 0) / priceBucketWidth, priceBucketCount - 1)]++;
+        }
+
+        List<FacetCountDTO> categoryFacets = new ArrayList<>();
+        for (BookingCategory category : categories) {
+            if (categoryCounts[category.ordinal()] > 0) {
+                categoryFacets.add(new FacetCountDTO(category.name(), categoryCounts[category.ordinal()]));
+            }
+        }
+        List<FacetCountDTO> capacityFacets = new ArrayList<>();
+        for (int i = 0; i < CAPACITY_LABELS.length; i++) {
+            if (capacityCounts[i] > 0) {
+                capacityFacets.add(new FacetCountDTO(CAPACITY_LABELS[i], capacityCounts[i]));
+            }
+        }
+        List<PriceBucketDTO> priceFacets = new ArrayList<>(priceBucketCount);
+        for (int i = 0; i < priceBucketCount; i++) {
+            Integer to = i == priceBucketCount - 1 ? null : (i + 1) * priceBucketWidth;
+            priceFacets.add(new PriceBucketDTO(i * priceBucketWidth, to, priceCounts[i]));
+        }
+        return new SearchFacetsDTO(categoryFacets, capacityFacets, priceFacets);
+    }
+
+    private static int capacityBucket(int guests) {
+        for (int i = 0; i < CAPACITY_UPPER_BOUNDS.length; i++) {
+            if (guests <= CAPACITY_UPPER_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return CAPACITY_UPPER_BOUNDS.length;
+    }
+}
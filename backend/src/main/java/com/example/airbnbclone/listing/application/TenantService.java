@@ -1,14 +1,25 @@
 package com.example.airbnbclone.listing.application;
 
 import com.example.airbnbclone.booking.application.BookingService;
+import com.example.airbnbclone.booking.application.dto.BookedDateDTO;
+import com.example.airbnbclone.listing.application.dto.ClusterSearchDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayListingDTO;
+import com.example.airbnbclone.listing.application.dto.FlexibleSearchDTO;
+import com.example.airbnbclone.listing.application.dto.FlexibleSearchResultDTO;
+import com.example.airbnbclone.listing.application.dto.KeywordSearchHitDTO;
+import com.example.airbnbclone.listing.application.dto.ListingClusterDTO;
+import com.example.airbnbclone.listing.application.dto.MapSearchDTO;
 import com.example.airbnbclone.listing.application.dto.SearchDTO;
 import com.example.airbnbclone.listing.application.dto.sub.LandlordListingDTO;
 import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.listing.domain.GeoBounds;
+import com.example.airbnbclone.listing.domain.GeoPoint;
 import com.example.airbnbclone.listing.domain.Listing;
 import com.example.airbnbclone.listing.mapper.ListingMapper;
 import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.listing.repository.ListingSearchHit;
+import com.example.airbnbclone.location.application.LocationMatcher;
 import com.example.airbnbclone.sharedkernel.service.State;
 import com.example.airbnbclone.user.application.UserService;
 import com.example.airbnbclone.user.application.dto.ReadUserDTO;
@@ -17,27 +28,43 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TenantService {
 
+    private static final int DEFAULT_MAP_SEARCH_LIMIT = 50;
+    private static final int FREE_STAYS_PER_LISTING = 3;
+
     private final ListingRepository listingRepository;
 
     private final ListingMapper listingMapper;
 
     private final UserService userService;
     private final BookingService bookingService;
+    private final ListingSpatialIndex listingSpatialIndex;
+    private final ListingClusterIndex listingClusterIndex;
+    private final LocationMatcher locationMatcher;
 
 
-    public TenantService(ListingRepository listingRepository, ListingMapper listingMapper, UserService userService, BookingService bookingService) {
+    public TenantService(ListingRepository listingRepository, ListingMapper listingMapper, UserService userService, BookingService bookingService,
+                         ListingSpatialIndex listingSpatialIndex, ListingClusterIndex listingClusterIndex,
+                         LocationMatcher locationMatcher) {
         this.listingRepository = listingRepository;
         this.listingMapper = listingMapper;
         this.userService = userService;
         this.bookingService = bookingService;
+        this.listingSpatialIndex = listingSpatialIndex;
+        this.listingClusterIndex = listingClusterIndex;
+        this.locationMatcher = locationMatcher;
     }
 
     public Page<DisplayCardListingDTO> getAllByCategory(Pageable pageable, BookingCategory category) {
@@ -53,7 +80,7 @@ public class TenantService {
 
     @Transactional(readOnly = true)
     public State<DisplayListingDTO, String> getOne(UUID publicId) {
-        Optional<Listing> listingByPublicIdOpt = listingRepository.findByPublicId(publicId);
+        Optional<Listing> listingByPublicIdOpt = listingRepository.findWithPicturesByPublicId(publicId);
 
         if (listingByPublicIdOpt.isEmpty()) {
             return State.<DisplayListingDTO, String>builder()
@@ -73,7 +100,12 @@ public class TenantService {
     @Transactional(readOnly = true)
     public Page<DisplayCardListingDTO> search(Pageable pageable, SearchDTO newSearch) {
 
-        Page<Listing> allMatchedListings = listingRepository.findAllByLocationAndBathroomsAndBedroomsAndGuestsAndBeds(pageable, newSearch.location(),
+        List<String> locations = locationMatcher.resolve(newSearch.location());
+        if (locations.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<Listing> allMatchedListings = listingRepository.findAllByLocationInAndBathroomsAndBedroomsAndGuestsAndBeds(pageable, locations,
                 newSearch.infos().baths().value(),
                 newSearch.infos().bedrooms().value(),
                 newSearch.infos().guests().value(),
@@ -89,4 +121,103 @@ public class TenantService {
 
         return new PageImpl<>(listingsNotBooked, pageable, listingsNotBooked.size());
     }
+
+    /**
+     * Search over a date range for stays of a given length: the listings of the page having at least one free stay,
+     * each with its earliest ones.
+     */
+    @Transactional(readOnly = true)
+    public Page<FlexibleSearchResultDTO> searchFlexible(Pageable pageable, FlexibleSearchDTO flexibleSearch) {
+        List<String> locations = locationMatcher.resolve(flexibleSearch.location());
+        if (locations.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<Listing> allMatchedListings = listingRepository.findAllByLocationInAndBathroomsAndBedroomsAndGuestsAndBeds(pageable, locations,
+                flexibleSearch.infos().baths().value(),
+                flexibleSearch.infos().bedrooms().value(),
+                flexibleSearch.infos().guests().value(),
+                flexibleSearch.infos().beds().value());
+
+        List<UUID> listingUUIDs = allMatchedListings.stream().map(Listing::getPublicId).toList();
+
+        Map<UUID, List<BookedDateDTO>> freeStays = bookingService.getEarliestFreeStays(listingUUIDs, flexibleSearch.range(),
+                flexibleSearch.nights(), FREE_STAYS_PER_LISTING);
+
+        List<FlexibleSearchResultDTO> listingsWithFreeStays = allMatchedListings.stream()
+                .filter(listing -> freeStays.containsKey(listing.getPublicId()))
+                .map(listing -> new FlexibleSearchResultDTO(listingMapper.listingToDisplayCardListingDTO(listing),
+                        freeStays.get(listing.getPublicId())))
+                .toList();
+
+        return new PageImpl<>(listingsWithFreeStays, pageable, listingsWithFreeStays.size());
+    }
+
+    @Transactional(readOnly = true)
+    public List<DisplayCardListingDTO> searchMap(MapSearchDTO mapSearch) {
+        GeoBounds bounds = new GeoBounds(mapSearch.south(), mapSearch.west(), mapSearch.north(), mapSearch.east());
+        GeoPoint center = mapSearch.latitude() != null && mapSearch.longitude() != null
+                ? new GeoPoint(mapSearch.latitude(), mapSearch.longitude()) : bounds.center();
+        int limit = mapSearch.limit() != null ? mapSearch.limit() : DEFAULT_MAP_SEARCH_LIMIT;
+
+        List<UUID> nearestPublicIds = listingSpatialIndex.findNearest(bounds, center, mapSearch.radiusKm(), limit);
+        if (nearestPublicIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Listing> listingsByPublicId = listingRepository.findAllByPublicIdInFetchCoverPicture(nearestPublicIds)
+                .stream()
+                .collect(Collectors.toMap(Listing::getPublicId, Function.identity()));
+        return nearestPublicIds.stream()
+                .map(listingsByPublicId::get)
+                .filter(Objects::nonNull)
+                .map(listingMapper::listingToDisplayCardListingDTO)
+                .toList();
+    }
+
+    public List<ListingClusterDTO> getClusters(ClusterSearchDTO clusterSearch) {
+        GeoBounds bounds = new GeoBounds(clusterSearch.south(), clusterSearch.west(), clusterSearch.north(), clusterSearch.east());
+        return listingClusterIndex.findClusters(bounds, ListingClusterIndex.precisionForZoom(clusterSearch.zoom()));
+    }
+
+    /**
+     * Full-text search over titles and descriptions, best ranked first. The highlights are HTML escaped listing text
+     * with {@code <mark>} tags around the matched terms.
+     */
+    @Transactional(readOnly = true)
+    public Page<KeywordSearchHitDTO> searchByKeywords(Pageable pageable, String keywords) {
+        if (keywords == null || keywords.isBlank()) {
+            return Page.empty(pageable);
+        }
+
+        List<ListingSearchHit> hits = listingRepository.searchByKeywords(keywords, pageable.getPageSize(), pageable.getOffset());
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, pageable.getOffset() == 0 ? 0 : listingRepository.countByKeywords(keywords));
+        }
+
+        List<UUID> publicIds = hits.stream().map(ListingSearchHit::getPublicId).toList();
+        Map<UUID, Listing> listingsByPublicId = listingRepository.findAllByPublicIdInFetchCoverPicture(publicIds)
+                .stream()
+                .collect(Collectors.toMap(Listing::getPublicId, Function.identity()));
+        List<KeywordSearchHitDTO> results = hits.stream()
+                .filter(hit -> listingsByPublicId.containsKey(hit.getPublicId()))
+                .map(hit -> new KeywordSearchHitDTO(
+                        listingMapper.listingToDisplayCardListingDTO(listingsByPublicId.get(hit.getPublicId())),
+                        toHtmlHighlight(hit.getTitleHighlight()), toHtmlHighlight(hit.getDescriptionHighlight()),
+                        hit.getRank()))
+                .toList();
+
+        long total = hits.size() < pageable.getPageSize() && pageable.getOffset() == 0
+                ? hits.size() : listingRepository.countByKeywords(keywords);
+        return new PageImpl<>(results, pageable, total);
+    }
+
+    private static String toHtmlHighlight(String highlight) {
+        if (highlight == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(highlight)
+                .replace(ListingRepository.HIGHLIGHT_START, "<mark>")
+                .replace(ListingRepository.HIGHLIGHT_STOP, "</mark>");
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import jakarta.validation.constraints.*;
+
+public record ClusterSearchDTO(@NotNull @DecimalMin("-90") @DecimalMax("90") Double south,
+                               @NotNull @DecimalMin("-180") @DecimalMax("180") Double west,
+                               @NotNull @DecimalMin("-90") @DecimalMax("90") Double north,
+                               @NotNull @DecimalMin("-180") @DecimalMax("180") Double east,
+                               @NotNull @Min(0) @Max(22) Integer zoom) {
+}
@@ -1,6 +1,6 @@
 package com.example.airbnbclone.listing.application.dto;
 
-import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
+import com.example.airbnbclone.listing.application.dto.sub.CardPictureDTO;
 import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
 import com.example.airbnbclone.listing.domain.BookingCategory;
 
@@ -8,7 +8,9 @@ import java.util.UUID;
 
 public record DisplayCardListingDTO(PriceVO price,
                                     String location,
-                                    PictureDTO cover,
+                                    CardPictureDTO cover,
                                     BookingCategory bookingCategory,
-                                    UUID publicId) {
+                                    UUID publicId,
+                                    Double latitude,
+                                    Double longitude) {
 }
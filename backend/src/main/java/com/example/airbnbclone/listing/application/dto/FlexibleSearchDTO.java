@@ -0,0 +1,35 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import com.example.airbnbclone.booking.application.dto.BookedDateDTO;
+import com.example.airbnbclone.listing.application.dto.sub.ListingInfoDTO;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Stays of {@code nights} nights checking in and out within {@code range}, counted in calendar days at the offset of
+ * its start.
+ */
+public record FlexibleSearchDTO(@Valid @NotNull BookedDateDTO range,
+                                @NotNull @Min(1) @Max(FlexibleSearchDTO.MAX_NIGHTS) Integer nights,
+                                @Valid ListingInfoDTO infos,
+                                @NotEmpty String location) {
+
+    public static final int MAX_NIGHTS = 30;
+    public static final int MAX_RANGE_DAYS = 366;
+
+    @AssertTrue(message = "must be long enough for the stay and span at most " + MAX_RANGE_DAYS + " days")
+    public boolean isRangeValid() {
+        if (range == null || range.startDate() == null || range.endDate() == null || nights == null) {
+            return true;
+        }
+        long days = ChronoUnit.DAYS.between(range.startDate().toLocalDate(),
+                range.endDate().withOffsetSameInstant(range.startDate().getOffset()).toLocalDate());
+        return days >= nights && days <= MAX_RANGE_DAYS;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import com.example.airbnbclone.booking.application.dto.BookedDateDTO;
+
+import java.util.List;
+
+public record FlexibleSearchResultDTO(DisplayCardListingDTO listing,
+                                      List<BookedDateDTO> freeStays) {
+}
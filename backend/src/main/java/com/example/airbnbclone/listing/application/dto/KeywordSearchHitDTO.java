@@ -0,0 +1,7 @@
+package com.example.airbnbclone.listing.application.dto;
+
+public record KeywordSearchHitDTO(DisplayCardListingDTO listing,
+                                  String titleHighlight,
+                                  String descriptionHighlight,
+                                  double rank) {
+}
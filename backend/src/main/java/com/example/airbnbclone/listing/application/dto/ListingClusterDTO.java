@@ -0,0 +1,10 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+
+public record ListingClusterDTO(String geohash,
+                                double latitude,
+                                double longitude,
+                                int count,
+                                PriceVO minPrice) {
+}
@@ -1,9 +1,14 @@
 package com.example.airbnbclone.listing.application.dto;
 
 import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
 
 import java.util.UUID;
 
 public record ListingCreateBookingDTO(
-        UUID listingPublicId, PriceVO price) {
+        UUID listingPublicId, PriceVO price, NightlyRateCalendar nightlyRates) {
+
+    public ListingCreateBookingDTO(UUID listingPublicId, PriceVO price) {
+        this(listingPublicId, price, NightlyRateCalendar.flat(price.value()));
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Nightly price from {@code startDate} included to {@code endDate} excluded, on the days of week set in
+ * {@code daysOfWeek} (1 for Monday to 64 for Sunday, 127 for every day).
+ */
+public record ListingRateDTO(@NotNull LocalDate startDate,
+                             @NotNull LocalDate endDate,
+                             @Min(1) @Max(127) short daysOfWeek,
+                             @Valid @NotNull PriceVO price) {
+
+    @JsonIgnore
+    @AssertTrue(message = "end date must be after start date")
+    public boolean isPeriodValid() {
+        return startDate == null || endDate == null || endDate.isAfter(startDate);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import jakarta.validation.constraints.*;
+
+public record MapSearchDTO(@NotNull @DecimalMin("-90") @DecimalMax("90") Double south,
+                           @NotNull @DecimalMin("-180") @DecimalMax("180") Double west,
+                           @NotNull @DecimalMin("-90") @DecimalMax("90") Double north,
+                           @NotNull @DecimalMin("-180") @DecimalMax("180") Double east,
+                           @DecimalMin("-90") @DecimalMax("90") Double latitude,
+                           @DecimalMin("-180") @DecimalMax("180") Double longitude,
+                           @Positive Double radiusKm,
+                           @Min(1) @Max(200) Integer limit) {
+}
@@ -6,6 +6,8 @@ import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
 import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
 import com.example.airbnbclone.listing.domain.BookingCategory;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
@@ -17,6 +19,12 @@ public class SaveListingDTO {
 
     @NotNull String location;
 
+    @DecimalMin("-90") @DecimalMax("90")
+    Double latitude;
+
+    @DecimalMin("-180") @DecimalMax("180")
+    Double longitude;
+
     @NotNull @Valid
     ListingInfoDTO infos;
 
@@ -45,6 +53,22 @@ public class SaveListingDTO {
         this.location = location;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public ListingInfoDTO getInfos() {
         return infos;
     }
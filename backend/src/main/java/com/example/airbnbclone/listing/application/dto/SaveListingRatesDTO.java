@@ -0,0 +1,17 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Replaces every rate of the listing, later rates taking precedence over earlier ones.
+ */
+public record SaveListingRatesDTO(@NotNull UUID listingPublicId,
+                                  @NotNull @Size(max = SaveListingRatesDTO.MAX_RATES) List<@Valid @NotNull ListingRateDTO> rates) {
+
+    public static final int MAX_RATES = 100;
+}
@@ -0,0 +1,11 @@
+package com.example.airbnbclone.listing.application.dto;
+
+import com.example.airbnbclone.listing.application.dto.sub.FacetCountDTO;
+import com.example.airbnbclone.listing.application.dto.sub.PriceBucketDTO;
+
+import java.util.List;
+
+public record SearchFacetsDTO(List<FacetCountDTO> categories,
+                              List<FacetCountDTO> capacities,
+                              List<PriceBucketDTO> prices) {
+}
@@ -0,0 +1,7 @@
+package com.example.airbnbclone.listing.application.dto.sub;
+
+public record CardPictureDTO(String url,
+                             String fileContentType,
+                             Integer width,
+                             Integer height) {
+}
@@ -0,0 +1,5 @@
+package com.example.airbnbclone.listing.application.dto.sub;
+
+public record FacetCountDTO(String value,
+                            long count) {
+}
@@ -0,0 +1,10 @@
+package com.example.airbnbclone.listing.application.dto.sub;
+
+import java.util.UUID;
+
+public record ListingCoordinatesDTO(UUID publicId,
+                                    String location,
+                                    Double latitude,
+                                    Double longitude,
+                                    int price) {
+}
@@ -0,0 +1,8 @@
+package com.example.airbnbclone.listing.application.dto.sub;
+
+import com.example.airbnbclone.listing.domain.BookingCategory;
+
+public record ListingFacetRowDTO(BookingCategory bookingCategory,
+                                 int guests,
+                                 int price) {
+}
@@ -0,0 +1,9 @@
+package com.example.airbnbclone.listing.application.dto.sub;
+
+/**
+ * Listings priced in {@code [from, to)}; {@code to} is null for the last, open-ended bucket.
+ */
+public record PriceBucketDTO(int from,
+                             Integer to,
+                             long count) {
+}
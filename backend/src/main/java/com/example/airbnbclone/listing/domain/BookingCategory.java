@@ -1,19 +1,47 @@
 package com.example.airbnbclone.listing.domain;
 
+/**
+ * The code is what the {@code category} column stores; it must never change once assigned.
+ */
 public enum BookingCategory {
-    ALL,
-    AMAZING_VIEWS,
-    OMG, TREEHOUSES,
-    BEACH,
-    FARMS,
-    TINY_HOMES,
-    LAKE, CONTAINERS,
-    CAMPING,
-    CASTLE, ARTIC, BOAT,
-    BED_AND_BREAKFASTS,
-    ROOMS,
-    EARTH_HOMES,
-    TOWER,
-    CAVES, LUXES, CHEFS_KITCHEN,
-    SKIING
+    ALL(0),
+    AMAZING_VIEWS(1),
+    OMG(2), TREEHOUSES(3),
+    BEACH(4),
+    FARMS(5),
+    TINY_HOMES(6),
+    LAKE(7), CONTAINERS(8),
+    CAMPING(9),
+    CASTLE(10), ARTIC(11), BOAT(12),
+    BED_AND_BREAKFASTS(13),
+    ROOMS(14),
+    EARTH_HOMES(15),
+    TOWER(16),
+    CAVES(17), LUXES(18), CHEFS_KITCHEN(19),
+    SKIING(20);
+
+    private static final BookingCategory[] BY_CODE = new BookingCategory[values().length];
+
+    static {
+        for (BookingCategory category : values()) {
+            BY_CODE[category.code] = category;
+        }
+    }
+
+    private final short code;
+
+    BookingCategory(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static BookingCategory fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Unknown booking category code: " + code);
+        }
+        return BY_CODE[code];
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.airbnbclone.listing.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class BookingCategoryConverter implements AttributeConverter<BookingCategory, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(BookingCategory category) {
+        return category == null ? null : category.getCode();
+    }
+
+    @Override
+    public BookingCategory convertToEntityAttribute(Short code) {
+        return code == null ? null : BookingCategory.fromCode(code);
+    }
+}
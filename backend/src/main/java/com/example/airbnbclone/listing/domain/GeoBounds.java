@@ -0,0 +1,29 @@
+package com.example.airbnbclone.listing.domain;
+
+/**
+ * Map viewport. {@code west} is greater than {@code east} when the viewport crosses the antimeridian.
+ */
+public record GeoBounds(double south, double west, double north, double east) {
+
+    public boolean crossesAntimeridian() {
+        return west > east;
+    }
+
+    public boolean contains(GeoPoint point) {
+        if (point.latitude() < south || point.latitude() > north) {
+            return false;
+        }
+        if (crossesAntimeridian()) {
+            return point.longitude() >= west || point.longitude() <= east;
+        }
+        return point.longitude() >= west && point.longitude() <= east;
+    }
+
+    public GeoPoint center() {
+        double longitude = crossesAntimeridian() ? (west + east + 360) / 2 : (west + east) / 2;
+        if (longitude > 180) {
+            longitude -= 360;
+        }
+        return new GeoPoint((south + north) / 2, longitude);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.airbnbclone.listing.domain;
+
+public record GeoPoint(double latitude, double longitude) {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public double distanceKm(GeoPoint other) {
+        double deltaLatitude = Math.toRadians(other.latitude - latitude);
+        double deltaLongitude = Math.toRadians(other.longitude - longitude);
+        double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
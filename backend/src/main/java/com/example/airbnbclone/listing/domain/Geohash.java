@@ -0,0 +1,60 @@
+package com.example.airbnbclone.listing.domain;
+
+/**
+ * Standard base32 geohash. A hash of {@code precision} characters interleaves {@code 5 * precision} bits, starting
+ * with longitude, so its cell is {@link #cellWidth(int)} by {@link #cellHeight(int)} degrees.
+ */
+public final class Geohash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private Geohash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLatitude = -90;
+        double maxLatitude = 90;
+        double minLongitude = -180;
+        double maxLongitude = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean longitudeBit = true;
+        int bits = 0;
+        int character = 0;
+        while (hash.length() < precision) {
+            if (longitudeBit) {
+                double middle = (minLongitude + maxLongitude) / 2;
+                if (longitude >= middle) {
+                    character = (character << 1) | 1;
+                    minLongitude = middle;
+                } else {
+                    character <<= 1;
+                    maxLongitude = middle;
+                }
+            } else {
+                double middle = (minLatitude + maxLatitude) / 2;
+                if (latitude >= middle) {
+                    character = (character << 1) | 1;
+                    minLatitude = middle;
+                } else {
+                    character <<= 1;
+                    maxLatitude = middle;
+                }
+            }
+            longitudeBit = !longitudeBit;
+            if (++bits == 5) {
+                hash.append(BASE32[character]);
+                bits = 0;
+                character = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static double cellWidth(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    public static double cellHeight(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+}
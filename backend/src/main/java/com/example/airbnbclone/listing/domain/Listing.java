@@ -2,6 +2,7 @@ package com.example.airbnbclone.listing.domain;
 
 import com.example.airbnbclone.sharedkernel.domain.AbstractAuditingEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.util.HashSet;
@@ -11,8 +12,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "listing")
+@NamedEntityGraph(name = Listing.WITH_PICTURES_GRAPH, attributeNodes = @NamedAttributeNode("pictures"))
 public class Listing extends AbstractAuditingEntity<Long> {
 
+    public static final String WITH_PICTURES_GRAPH = "listing-with-pictures";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "listingSequenceGenerator")
     @SequenceGenerator(name = "listingSequenceGenerator", sequenceName = "listing_generator", allocationSize = 1)
@@ -41,19 +45,31 @@ public class Listing extends AbstractAuditingEntity<Long> {
     @Column(name = "price")
     private int price;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = BookingCategoryConverter.class)
     @Column(name = "category")
     private BookingCategory bookingCategory;
 
-    @Column(name = "location")
+    @Convert(converter = LocationCodeConverter.class)
+    @Column(name = "location_id")
     private String location;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "landlord_public_id")
     private UUID landlordPublicId;
 
     @OneToMany(mappedBy = "listing", cascade = CascadeType.REMOVE)
+    @BatchSize(size = 50)
     private Set<ListingPicture> pictures = new HashSet<>();
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cover_picture_id", referencedColumnName = "id")
+    private ListingPictureMetadata coverPicture;
+
     @Override
     public Long getId() {
         return id;
@@ -143,6 +159,22 @@ public class Listing extends AbstractAuditingEntity<Long> {
         this.location = location;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public UUID getLandlordPublicId() {
         return landlordPublicId;
     }
@@ -159,17 +191,24 @@ public class Listing extends AbstractAuditingEntity<Long> {
         this.pictures = pictures;
     }
 
+    public ListingPictureMetadata getCoverPicture() {
+        return coverPicture;
+    }
+
+    public void setCoverPicture(ListingPictureMetadata coverPicture) {
+        this.coverPicture = coverPicture;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Listing listing = (Listing) o;
-        return guests == listing.guests && bedrooms == listing.bedrooms && beds == listing.beds && bathrooms == listing.bathrooms && price == listing.price && Objects.equals(title, listing.title) && Objects.equals(description, listing.description) && bookingCategory == listing.bookingCategory && Objects.equals(location, listing.location) && Objects.equals(landlordPublicId, listing.landlordPublicId);
+        if (!(o instanceof Listing listing)) return false;
+        return id != null && Objects.equals(id, listing.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(title, description, guests, bedrooms, beds, bathrooms, price, bookingCategory, location, landlordPublicId);
+        return Listing.class.hashCode();
     }
 
     @Override
@@ -3,7 +3,6 @@ package com.example.airbnbclone.listing.domain;
 import com.example.airbnbclone.sharedkernel.domain.AbstractAuditingEntity;
 import jakarta.persistence.*;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 @Entity
@@ -30,6 +29,12 @@ public class ListingPicture extends AbstractAuditingEntity<Long> {
     @Column(name = "is_cover")
     private boolean isCover;
 
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
     @Override
     public Long getId() {
         return id;
@@ -71,23 +76,39 @@ public class ListingPicture extends AbstractAuditingEntity<Long> {
         isCover = cover;
     }
 
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        ListingPicture that = (ListingPicture) o;
-        return isCover == that.isCover && Objects.deepEquals(file, that.file) && Objects.equals(fileContentType, that.fileContentType);
+        if (!(o instanceof ListingPicture that)) return false;
+        return id != null && Objects.equals(id, that.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(file), fileContentType, isCover);
+        return ListingPicture.class.hashCode();
     }
 
     @Override
     public String toString() {
         return "ListingPicture{" +
-                "file=" + Arrays.toString(file) +
+                "id=" + id +
+                ", fileSize=" + (file == null ? 0 : file.length) +
                 ", fileContentType='" + fileContentType + '\'' +
                 ", isCover=" + isCover +
                 '}';
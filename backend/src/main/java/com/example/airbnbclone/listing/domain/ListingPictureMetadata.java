@@ -0,0 +1,83 @@
+package com.example.airbnbclone.listing.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.util.Objects;
+
+/**
+ * Read-only view of a {@link ListingPicture} without its file, so that listing cards can reference their cover
+ * without loading the image.
+ */
+@Entity
+@Immutable
+@Table(name = "listing_picture")
+public class ListingPictureMetadata {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "file_content_type")
+    private String fileContentType;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFileContentType() {
+        return fileContentType;
+    }
+
+    public void setFileContentType(String fileContentType) {
+        this.fileContentType = fileContentType;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ListingPictureMetadata that)) return false;
+        return id != null && Objects.equals(id, that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return ListingPictureMetadata.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ListingPictureMetadata{" +
+                "id=" + id +
+                ", fileContentType='" + fileContentType + '\'' +
+                ", width=" + width +
+                ", height=" + height +
+                '}';
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.airbnbclone.listing.domain;
+
+import com.example.airbnbclone.sharedkernel.domain.AbstractAuditingEntity;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Nightly price applied from {@code startDate} included to {@code endDate} excluded, on the days of week set in
+ * {@code daysOfWeek} (bit 0 for Monday to bit 6 for Sunday).
+ */
+@Entity
+@Table(name = "listing_rate")
+public class ListingRate extends AbstractAuditingEntity<Long> {
+
+    public static final short EVERY_DAY = 0b1111111;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "listingRateSequenceGenerator")
+    @SequenceGenerator(name = "listingRateSequenceGenerator", sequenceName = "listing_rate_generator", allocationSize = 1)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "fk_listing", nullable = false)
+    private UUID fkListing;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "days_of_week", nullable = false)
+    private short daysOfWeek;
+
+    @Column(name = "price", nullable = false)
+    private int price;
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UUID getFkListing() {
+        return fkListing;
+    }
+
+    public void setFkListing(UUID fkListing) {
+        this.fkListing = fkListing;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public short getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(short daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public void setPrice(int price) {
+        this.price = price;
+    }
+
+    public boolean appliesOn(LocalDate night) {
+        return (daysOfWeek & (1 << (night.getDayOfWeek().getValue() - 1))) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ListingRate that = (ListingRate) o;
+        return daysOfWeek == that.daysOfWeek && price == that.price && Objects.equals(fkListing, that.fkListing) && Objects.equals(startDate, that.startDate) && Objects.equals(endDate, that.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fkListing, startDate, endDate, daysOfWeek, price);
+    }
+
+    @Override
+    public String toString() {
+        return "ListingRate{" +
+                "fkListing=" + fkListing +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", daysOfWeek=" + daysOfWeek +
+                ", price=" + price +
+                '}';
+    }
+}
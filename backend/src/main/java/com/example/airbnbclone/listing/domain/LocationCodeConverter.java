@@ -0,0 +1,33 @@
+package com.example.airbnbclone.listing.domain;
+
+import com.example.airbnbclone.location.application.LocationCodeRegistry;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores the location code of a listing as the key of the {@code location} table. Hibernate creates it through the
+ * Spring bean container. An unknown code converts to null, so that searching for it matches nothing.
+ */
+@Converter
+public class LocationCodeConverter implements AttributeConverter<String, Short> {
+
+    private final LocationCodeRegistry locationCodeRegistry;
+
+    public LocationCodeConverter(LocationCodeRegistry locationCodeRegistry) {
+        this.locationCodeRegistry = locationCodeRegistry;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String code) {
+        return code == null ? null : locationCodeRegistry.findId(code).orElse(null);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short id) {
+        if (id == null) {
+            return null;
+        }
+        return locationCodeRegistry.findCode(id)
+                .orElseThrow(() -> new IllegalStateException("Unknown location id: " + id));
+    }
+}
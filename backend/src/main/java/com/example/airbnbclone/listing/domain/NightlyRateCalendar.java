@@ -0,0 +1,93 @@
+package com.example.airbnbclone.listing.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Nightly prices of one listing over {@link #HORIZON_DAYS} nights from {@code firstNight}, kept as prefix sums so the
+ * price of any stay is one subtraction. Nights outside the horizon cost the base price. A listing without rate keeps
+ * an empty calendar that is valid whatever the day.
+ */
+public final class NightlyRateCalendar {
+
+    public static final int HORIZON_DAYS = 731;
+
+    private final LocalDate firstNight;
+    private final int basePrice;
+    private final long[] prefixSums;
+
+    private NightlyRateCalendar(LocalDate firstNight, int basePrice, long[] prefixSums) {
+        this.firstNight = firstNight;
+        this.basePrice = basePrice;
+        this.prefixSums = prefixSums;
+    }
+
+    public static NightlyRateCalendar flat(int basePrice) {
+        return new NightlyRateCalendar(LocalDate.EPOCH, basePrice, new long[1]);
+    }
+
+    /**
+     * Later rates win over earlier ones for the nights they both cover.
+     */
+    public static NightlyRateCalendar build(LocalDate firstNight, int basePrice, List<ListingRate> rates) {
+        if (rates.isEmpty()) {
+            return flat(basePrice);
+        }
+        int[] prices = new int[HORIZON_DAYS];
+        Arrays.fill(prices, basePrice);
+        for (ListingRate rate : rates) {
+            int from = (int) Math.max(0, ChronoUnit.DAYS.between(firstNight, rate.getStartDate()));
+            int to = (int) Math.min(HORIZON_DAYS, Math.max(0, ChronoUnit.DAYS.between(firstNight, rate.getEndDate())));
+            for (int i = from; i < to; i++) {
+                if (rate.appliesOn(firstNight.plusDays(i))) {
+                    prices[i] = rate.getPrice();
+                }
+            }
+        }
+        long[] prefixSums = new long[HORIZON_DAYS + 1];
+        for (int i = 0; i < HORIZON_DAYS; i++) {
+            prefixSums[i + 1] = prefixSums[i] + prices[i];
+        }
+        return new NightlyRateCalendar(firstNight, basePrice, prefixSums);
+    }
+
+    /**
+     * Total price of the nights from {@code checkIn} included to {@code checkOut} excluded.
+     */
+    public long totalPrice(LocalDate checkIn, LocalDate checkOut) {
+        long from = ChronoUnit.DAYS.between(firstNight, checkIn);
+        long to = ChronoUnit.DAYS.between(firstNight, checkOut);
+        if (to <= from) {
+            return 0;
+        }
+        int horizon = prefixSums.length - 1;
+        int coveredFrom = Math.clamp(from, 0, horizon);
+        int coveredTo = Math.clamp(to, 0, horizon);
+        return prefixSums[coveredTo] - prefixSums[coveredFrom] + (to - from - (coveredTo - coveredFrom)) * basePrice;
+    }
+
+    public int priceOf(LocalDate night) {
+        long index = ChronoUnit.DAYS.between(firstNight, night);
+        if (index < 0 || index >= prefixSums.length - 1) {
+            return basePrice;
+        }
+        return (int) (prefixSums[(int) index + 1] - prefixSums[(int) index]);
+    }
+
+    /**
+     * Whether the calendar still describes the listing: a calendar with rates starts on the current night.
+     */
+    public boolean isCurrent(LocalDate today, int basePrice) {
+        return this.basePrice == basePrice && (prefixSums.length == 1 || firstNight.equals(today));
+    }
+
+    public LocalDate getFirstNight() {
+        return firstNight;
+    }
+
+    public int getBasePrice() {
+        return basePrice;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.airbnbclone.listing.mapper;
 import com.example.airbnbclone.listing.application.dto.*;
 import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
 import com.example.airbnbclone.listing.domain.Listing;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -17,6 +18,7 @@ public interface ListingMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdDate", ignore = true)
     @Mapping(target = "pictures", ignore = true)
+    @Mapping(target = "coverPicture", ignore = true)
     @Mapping(target = "title", source = "description.title.value")
     @Mapping(target = "description", source = "description.description.value")
     @Mapping(target = "bedrooms", source = "infos.bedrooms.value")
@@ -29,10 +31,9 @@ public interface ListingMapper {
 
     CreatedListingDTO listingToCreatedListingDTO(Listing listing);
 
-    @Mapping(target = "cover", source = "pictures")
     List<DisplayCardListingDTO> listingToDisplayCardListingDTOs(List<Listing> listings);
 
-    @Mapping(target = "cover", source = "pictures", qualifiedByName = "extract-cover")
+    @Mapping(target = "cover", source = "coverPicture")
     DisplayCardListingDTO listingToDisplayCardListingDTO(Listing listing);
 
     default PriceVO mapPriceToPriceVO(int price) {
@@ -50,6 +51,7 @@ public interface ListingMapper {
     @Mapping(target = "price.value", source = "price")
     DisplayListingDTO listingToDisplayListingDTO(Listing listing);
 
-    @Mapping(target = "listingPublicId", source = "publicId")
-    ListingCreateBookingDTO mapListingToListingCreateBookingDTO(Listing listing);
+    default ListingCreateBookingDTO mapListingToListingCreateBookingDTO(Listing listing, NightlyRateCalendar nightlyRates) {
+        return new ListingCreateBookingDTO(listing.getPublicId(), new PriceVO(listing.getPrice()), nightlyRates);
+    }
 }
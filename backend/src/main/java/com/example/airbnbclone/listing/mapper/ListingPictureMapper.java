@@ -1,10 +1,11 @@
 package com.example.airbnbclone.listing.mapper;
 
+import com.example.airbnbclone.listing.application.dto.sub.CardPictureDTO;
 import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
 import com.example.airbnbclone.listing.domain.ListingPicture;
+import com.example.airbnbclone.listing.domain.ListingPictureMetadata;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Named;
 
 import java.util.List;
 import java.util.Set;
@@ -12,6 +13,7 @@ import java.util.Set;
 @Mapper(componentModel = "spring")
 public interface ListingPictureMapper {
 
+    String PICTURE_URL_PREFIX = "/api/pictures/";
 
     Set<ListingPicture> pictureDTOsToListingPictures(List<PictureDTO> pictureDTOs);
 
@@ -19,6 +21,8 @@ public interface ListingPictureMapper {
     @Mapping(target = "listing", ignore = true)
     @Mapping(target = "createdDate", ignore = true)
     @Mapping(target = "lastModifiedDate", ignore = true)
+    @Mapping(target = "width", ignore = true)
+    @Mapping(target = "height", ignore = true)
     @Mapping(target = "cover", source = "isCover")
     ListingPicture pictureDTOToListingPicture(PictureDTO pictureDTO);
 
@@ -27,9 +31,12 @@ public interface ListingPictureMapper {
     @Mapping(target = "isCover", source = "cover")
     PictureDTO convertToPictureDTO(ListingPicture listingPicture);
 
-    @Named("extract-cover")
-    default PictureDTO extractCover(Set<ListingPicture> pictures) {
-        return pictures.stream().findFirst().map(this::convertToPictureDTO).orElseThrow();
+    default CardPictureDTO listingPictureMetadataToCardPictureDTO(ListingPictureMetadata picture) {
+        if (picture == null) {
+            return null;
+        }
+        return new CardPictureDTO(PICTURE_URL_PREFIX + picture.getId(), picture.getFileContentType(),
+                picture.getWidth(), picture.getHeight());
     }
 
 }
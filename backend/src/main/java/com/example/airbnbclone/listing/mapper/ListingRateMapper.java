@@ -0,0 +1,24 @@
+package com.example.airbnbclone.listing.mapper;
+
+import com.example.airbnbclone.listing.application.dto.ListingRateDTO;
+import com.example.airbnbclone.listing.domain.ListingRate;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ListingRateMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "fkListing", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "lastModifiedDate", ignore = true)
+    @Mapping(target = "price", source = "price.value")
+    ListingRate listingRateDTOToListingRate(ListingRateDTO listingRateDTO);
+
+    @Mapping(target = "price.value", source = "price")
+    ListingRateDTO listingRateToListingRateDTO(ListingRate listingRate);
+
+    List<ListingRateDTO> listingRatesToListingRateDTOs(List<ListingRate> listingRates);
+}
@@ -2,16 +2,24 @@ package com.example.airbnbclone.listing.presentation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.airbnbclone.infrastructure.config.SecurityUtils;
+import com.example.airbnbclone.infrastructure.json.JsonStreamWriter;
+import com.example.airbnbclone.infrastructure.query.QueryBudget;
 import com.example.airbnbclone.listing.application.LandlordService;
+import com.example.airbnbclone.listing.application.ListingRateService;
 import com.example.airbnbclone.listing.application.dto.CreatedListingDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
+import com.example.airbnbclone.listing.application.dto.ListingRateDTO;
 import com.example.airbnbclone.listing.application.dto.SaveListingDTO;
+import com.example.airbnbclone.listing.application.dto.SaveListingRatesDTO;
 import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
+import com.example.airbnbclone.location.application.LocationCodeRegistry;
 import com.example.airbnbclone.sharedkernel.service.State;
 import com.example.airbnbclone.sharedkernel.service.StatusNotification;
 import com.example.airbnbclone.user.application.UserException;
 import com.example.airbnbclone.user.application.UserService;
 import com.example.airbnbclone.user.application.dto.ReadUserDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.springframework.http.HttpStatus;
@@ -40,13 +48,24 @@ public class LandlordResource {
 
     private final UserService userService;
 
+    private final JsonStreamWriter jsonStreamWriter;
+
+    private final LocationCodeRegistry locationCodeRegistry;
+
+    private final ListingRateService listingRateService;
+
     private ObjectMapper objectMapper = new ObjectMapper();
 
 
-    public LandlordResource(LandlordService landlordService, Validator validator, UserService userService) {
+    public LandlordResource(LandlordService landlordService, Validator validator, UserService userService,
+                            JsonStreamWriter jsonStreamWriter, LocationCodeRegistry locationCodeRegistry,
+                            ListingRateService listingRateService) {
         this.landlordService = landlordService;
         this.validator = validator;
         this.userService = userService;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.locationCodeRegistry = locationCodeRegistry;
+        this.listingRateService = listingRateService;
     }
 
 
@@ -72,6 +91,10 @@ public class LandlordResource {
 
             ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, violationsJoined);
             return ResponseEntity.of(problemDetail).build();
+        } else if (locationCodeRegistry.findId(saveListingDTO.getLocation()).isEmpty()) {
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                    String.format("Unknown location: %s", saveListingDTO.getLocation()));
+            return ResponseEntity.of(problemDetail).build();
         } else {
             return ResponseEntity.ok(landlordService.create(saveListingDTO));
         }
@@ -89,11 +112,12 @@ public class LandlordResource {
     }
 
     @GetMapping(value = "/get-all")
+    @QueryBudget(3)
     @PreAuthorize("hasAnyRole('" + SecurityUtils.ROLE_LANDLORD + "')")
-    public ResponseEntity<List<DisplayCardListingDTO>> getAll() {
+    public void getAll(HttpServletResponse response) throws IOException {
         ReadUserDTO connectedUser = userService.getAuthenticatedUserFromSecurityContext();
         List<DisplayCardListingDTO> allProperties = landlordService.getAllProperties(connectedUser);
-        return ResponseEntity.ok(allProperties);
+        jsonStreamWriter.writeList(response, allProperties);
     }
 
     @DeleteMapping("/delete")
@@ -108,4 +132,28 @@ public class LandlordResource {
         }
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
+
+    @GetMapping("/rates")
+    @PreAuthorize("hasAnyRole('" + SecurityUtils.ROLE_LANDLORD + "')")
+    public ResponseEntity<List<ListingRateDTO>> getRates(@RequestParam UUID listingPublicId) {
+        ReadUserDTO connectedUser = userService.getAuthenticatedUserFromSecurityContext();
+        return toResponse(listingRateService.getRates(listingPublicId, connectedUser));
+    }
+
+    @PutMapping("/rates")
+    @PreAuthorize("hasAnyRole('" + SecurityUtils.ROLE_LANDLORD + "')")
+    public ResponseEntity<List<ListingRateDTO>> replaceRates(@Valid @RequestBody SaveListingRatesDTO saveListingRatesDTO) {
+        ReadUserDTO connectedUser = userService.getAuthenticatedUserFromSecurityContext();
+        return toResponse(listingRateService.replaceRates(saveListingRatesDTO, connectedUser));
+    }
+
+    private static ResponseEntity<List<ListingRateDTO>> toResponse(State<List<ListingRateDTO>, String> ratesState) {
+        if (ratesState.getStatus().equals(StatusNotification.OK)) {
+            return ResponseEntity.ok(ratesState.getValue());
+        } else if (ratesState.getStatus().equals(StatusNotification.UNAUTHORIZED)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ratesState.getError());
+        return ResponseEntity.of(problemDetail).build();
+    }
 }
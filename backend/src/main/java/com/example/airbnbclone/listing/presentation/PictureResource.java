@@ -0,0 +1,58 @@
+package com.example.airbnbclone.listing.presentation;
+
+import com.example.airbnbclone.listing.application.PictureService;
+import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves listing pictures referenced by the card DTOs. A picture never changes once uploaded, so its id is a strong
+ * validator and browsers may keep it for a year.
+ */
+@RestController
+@RequestMapping("/api/pictures")
+public class PictureResource {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private final PictureService pictureService;
+
+    public PictureResource(PictureService pictureService) {
+        this.pictureService = pictureService;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> get(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = "\"" + id + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+        Optional<PictureDTO> picture = pictureService.getFile(id);
+        if (picture.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(mediaType(picture.get().fileContentType()))
+                .body(picture.get().file());
+    }
+
+    private static MediaType mediaType(String fileContentType) {
+        try {
+            return MediaType.parseMediaType(fileContentType);
+        } catch (RuntimeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
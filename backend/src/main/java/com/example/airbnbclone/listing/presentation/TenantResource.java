@@ -1,12 +1,22 @@
 package com.example.airbnbclone.listing.presentation;
 
+import com.example.airbnbclone.infrastructure.json.JsonStreamWriter;
+import com.example.airbnbclone.infrastructure.query.QueryBudget;
+import com.example.airbnbclone.listing.application.SearchFacetService;
 import com.example.airbnbclone.listing.application.TenantService;
+import com.example.airbnbclone.listing.application.dto.ClusterSearchDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayListingDTO;
+import com.example.airbnbclone.listing.application.dto.FlexibleSearchDTO;
+import com.example.airbnbclone.listing.application.dto.FlexibleSearchResultDTO;
+import com.example.airbnbclone.listing.application.dto.KeywordSearchHitDTO;
+import com.example.airbnbclone.listing.application.dto.ListingClusterDTO;
+import com.example.airbnbclone.listing.application.dto.MapSearchDTO;
 import com.example.airbnbclone.listing.application.dto.SearchDTO;
 import com.example.airbnbclone.listing.domain.BookingCategory;
 import com.example.airbnbclone.sharedkernel.service.State;
 import com.example.airbnbclone.sharedkernel.service.StatusNotification;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +25,9 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -23,18 +36,26 @@ public class TenantResource {
 
     private final TenantService tenantService;
 
+    private final SearchFacetService searchFacetService;
 
-    public TenantResource(TenantService tenantService) {
+    private final JsonStreamWriter jsonStreamWriter;
+
+
+    public TenantResource(TenantService tenantService, SearchFacetService searchFacetService, JsonStreamWriter jsonStreamWriter) {
         this.tenantService = tenantService;
+        this.searchFacetService = searchFacetService;
+        this.jsonStreamWriter = jsonStreamWriter;
     }
 
     @GetMapping("/get-all-by-category")
-    public ResponseEntity<Page<DisplayCardListingDTO>> findAllByBookingCategory(Pageable pageable,
-                                                                                @RequestParam BookingCategory category) {
-        return ResponseEntity.ok(tenantService.getAllByCategory(pageable, category));
+    public void findAllByBookingCategory(Pageable pageable, @RequestParam BookingCategory category,
+                                         HttpServletResponse response) throws IOException {
+        Page<DisplayCardListingDTO> cards = tenantService.getAllByCategory(pageable, category);
+        jsonStreamWriter.writePage(response, cards);
     }
 
     @GetMapping("/get-one")
+    @QueryBudget(3)
     public ResponseEntity<DisplayListingDTO> getOne(@RequestParam UUID publicId) {
         State<DisplayListingDTO, String> displayListingState = tenantService.getOne(publicId);
         if (displayListingState.getStatus().equals(StatusNotification.OK)) {
@@ -46,8 +67,39 @@ public class TenantResource {
     }
 
     @PostMapping("/search")
-    public ResponseEntity<Page<DisplayCardListingDTO>> search(Pageable pageable,
-                                                              @Valid @RequestBody SearchDTO searchDTO) {
-        return ResponseEntity.ok(tenantService.search(pageable, searchDTO));
+    public void search(Pageable pageable, @Valid @RequestBody SearchDTO searchDTO,
+                       @RequestParam(defaultValue = "false") boolean facets,
+                       HttpServletResponse response) throws IOException {
+        Page<DisplayCardListingDTO> cards = tenantService.search(pageable, searchDTO);
+        if (facets) {
+            jsonStreamWriter.writePage(response, cards, Map.of("facets", searchFacetService.getFacets(searchDTO)));
+        } else {
+            jsonStreamWriter.writePage(response, cards);
+        }
+    }
+
+    @PostMapping("/search-flexible")
+    public void searchFlexible(Pageable pageable, @Valid @RequestBody FlexibleSearchDTO flexibleSearchDTO,
+                               HttpServletResponse response) throws IOException {
+        Page<FlexibleSearchResultDTO> results = tenantService.searchFlexible(pageable, flexibleSearchDTO);
+        jsonStreamWriter.writePage(response, results);
+    }
+
+    @GetMapping("/search-keywords")
+    public void searchByKeywords(Pageable pageable, @RequestParam("q") String keywords,
+                                 HttpServletResponse response) throws IOException {
+        Page<KeywordSearchHitDTO> hits = tenantService.searchByKeywords(pageable, keywords);
+        jsonStreamWriter.writePage(response, hits);
+    }
+
+    @GetMapping("/search-map")
+    public void searchMap(@Valid MapSearchDTO mapSearchDTO, HttpServletResponse response) throws IOException {
+        List<DisplayCardListingDTO> cards = tenantService.searchMap(mapSearchDTO);
+        jsonStreamWriter.writeList(response, cards);
+    }
+
+    @GetMapping("/clusters")
+    public ResponseEntity<List<ListingClusterDTO>> getClusters(@Valid ClusterSearchDTO clusterSearchDTO) {
+        return ResponseEntity.ok(tenantService.getClusters(clusterSearchDTO));
     }
 }
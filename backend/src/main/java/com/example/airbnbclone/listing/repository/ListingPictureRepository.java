@@ -1,7 +1,15 @@
 package com.example.airbnbclone.listing.repository;
 
+import com.example.airbnbclone.listing.application.dto.sub.PictureDTO;
 import com.example.airbnbclone.listing.domain.ListingPicture;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
 
 public interface ListingPictureRepository extends JpaRepository<ListingPicture, Long> {
+
+    @Query("SELECT new com.example.airbnbclone.listing.application.dto.sub.PictureDTO(" +
+            "picture.file, picture.fileContentType, picture.isCover) FROM ListingPicture picture WHERE picture.id = :id")
+    Optional<PictureDTO> findFileById(Long id);
 }
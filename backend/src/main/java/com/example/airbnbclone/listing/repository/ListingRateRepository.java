@@ -0,0 +1,21 @@
+package com.example.airbnbclone.listing.repository;
+
+import com.example.airbnbclone.listing.domain.ListingRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ListingRateRepository extends JpaRepository<ListingRate, Long> {
+
+    List<ListingRate> findAllByFkListingOrderById(UUID fkListing);
+
+    List<ListingRate> findAllByFkListingInOrderById(Collection<UUID> fkListings);
+
+    @Modifying
+    @Query("DELETE FROM ListingRate rate WHERE rate.fkListing = :fkListing")
+    int deleteAllByFkListing(UUID fkListing);
+}
@@ -1,39 +1,108 @@
 package com.example.airbnbclone.listing.repository;
 
+import com.example.airbnbclone.listing.application.dto.sub.ListingCoordinatesDTO;
+import com.example.airbnbclone.listing.application.dto.sub.ListingFacetRowDTO;
 import com.example.airbnbclone.listing.domain.BookingCategory;
 import com.example.airbnbclone.listing.domain.Listing;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ListingRepository extends JpaRepository<Listing, Long> {
 
-    @Query("SELECT listing FROM Listing listing LEFT JOIN FETCH listing.pictures picture" +
-            " WHERE listing.landlordPublicId = :landlordPublicId AND picture.isCover = true")
+    String HIGHLIGHT_START = "\u0002";
+    String HIGHLIGHT_STOP = "\u0003";
+
+    @Query("SELECT listing FROM Listing listing JOIN FETCH listing.coverPicture" +
+            " WHERE listing.landlordPublicId = :landlordPublicId")
     List<Listing> findAllByLandlordPublicIdFetchCoverPicture(UUID landlordPublicId);
 
     long deleteByPublicIdAndLandlordPublicId(UUID publicId, UUID landlordPublicId);
 
-    @Query("SELECT listing from Listing listing LEFT JOIN FETCH listing.pictures picture" +
-            " WHERE picture.isCover = true AND listing.bookingCategory = :bookingCategory")
+    @Query(value = "SELECT listing FROM Listing listing JOIN FETCH listing.coverPicture" +
+            " WHERE listing.bookingCategory = :bookingCategory",
+            countQuery = "SELECT COUNT(listing) FROM Listing listing" +
+                    " WHERE listing.coverPicture IS NOT NULL AND listing.bookingCategory = :bookingCategory")
     Page<Listing> findAllByBookingCategoryWithCoverOnly(Pageable pageable, BookingCategory bookingCategory);
 
-    @Query("SELECT listing from Listing listing LEFT JOIN FETCH listing.pictures picture" +
-            " WHERE picture.isCover = true")
+    @Query(value = "SELECT listing FROM Listing listing JOIN FETCH listing.coverPicture",
+            countQuery = "SELECT COUNT(listing) FROM Listing listing WHERE listing.coverPicture IS NOT NULL")
     Page<Listing> findAllWithCoverOnly(Pageable pageable);
 
     Optional<Listing> findByPublicId(UUID publicId);
 
+    boolean existsByPublicIdAndLandlordPublicId(UUID publicId, UUID landlordPublicId);
+
+    @EntityGraph(Listing.WITH_PICTURES_GRAPH)
+    Optional<Listing> findWithPicturesByPublicId(UUID publicId);
+
     List<Listing> findAllByPublicIdIn(List<UUID> allListingPublicIDs);
 
-    Optional<Listing> findOneByPublicIdAndLandlordPublicId(UUID listingPublicId, UUID landlordPublicId);
+    @Query("SELECT listing FROM Listing listing JOIN FETCH listing.coverPicture" +
+            " WHERE listing.publicId IN :publicIds")
+    List<Listing> findAllByPublicIdInFetchCoverPicture(List<UUID> publicIds);
 
-    Page<Listing> findAllByLocationAndBathroomsAndBedroomsAndGuestsAndBeds(
-            Pageable pageable, String location, int bathrooms, int bedrooms, int guests, int beds
+    @Query("SELECT listing FROM Listing listing JOIN FETCH listing.coverPicture" +
+            " WHERE listing.publicId = :listingPublicId AND listing.landlordPublicId = :landlordPublicId")
+    Optional<Listing> findOneByPublicIdAndLandlordPublicIdFetchCoverPicture(UUID listingPublicId, UUID landlordPublicId);
+
+    @EntityGraph(attributePaths = "coverPicture")
+    Page<Listing> findAllByLocationInAndBathroomsAndBedroomsAndGuestsAndBeds(
+            Pageable pageable, List<String> locations, int bathrooms, int bedrooms, int guests, int beds
     );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Listing listing SET listing.coverPicture =" +
+            " (SELECT picture FROM ListingPictureMetadata picture WHERE picture.id = :pictureId)" +
+            " WHERE listing.id = :listingId")
+    int updateCoverPicture(Long listingId, Long pictureId);
+
+    @Query("SELECT new com.example.airbnbclone.listing.application.dto.sub.ListingCoordinatesDTO(" +
+            "listing.publicId, listing.location, listing.latitude, listing.longitude, listing.price) FROM Listing listing")
+    Stream<ListingCoordinatesDTO> streamAllCoordinates();
+
+    @Query("SELECT new com.example.airbnbclone.listing.application.dto.sub.ListingFacetRowDTO(" +
+            "listing.bookingCategory, listing.guests, listing.price) FROM Listing listing" +
+            " WHERE listing.location IN :locations AND listing.bathrooms = :bathrooms" +
+            " AND listing.bedrooms = :bedrooms AND listing.beds = :beds")
+    List<ListingFacetRowDTO> findFacetRowsByLocationInAndBathroomsAndBedroomsAndBeds(List<String> locations, int bathrooms,
+                                                                                     int bedrooms, int beds);
+
+    /**
+     * Ranks the listings matching the keywords (web search syntax: quotes, {@code or}, {@code -}) through the GIN
+     * index on {@code search_vector}. Highlights are computed for the returned page only, the matched terms being
+     * wrapped in {@link #HIGHLIGHT_START} and {@link #HIGHLIGHT_STOP} rather than in markup, since the listing text
+     * itself is not escaped.
+     */
+    @Query(value = "WITH keywords AS (SELECT websearch_to_tsquery('english', :keywords) AS query)," +
+            " hits AS (SELECT listing.id, ts_rank_cd(listing.search_vector, keywords.query) AS rank" +
+            "   FROM {h-schema}listing listing, keywords" +
+            "   WHERE listing.search_vector @@ keywords.query AND listing.cover_picture_id IS NOT NULL" +
+            "   ORDER BY rank DESC, listing.id LIMIT :limit OFFSET :offset)" +
+            " SELECT listing.public_id AS publicId, CAST(hits.rank AS double precision) AS rank," +
+            "  ts_headline('english', coalesce(listing.title, ''), keywords.query," +
+            "   'HighlightAll=true, StartSel=\"" + HIGHLIGHT_START + "\", StopSel=\"" + HIGHLIGHT_STOP + "\"') AS titleHighlight," +
+            "  ts_headline('english', coalesce(listing.description, ''), keywords.query," +
+            "   'MaxFragments=2, MaxWords=25, MinWords=10, StartSel=\"" + HIGHLIGHT_START + "\", StopSel=\"" + HIGHLIGHT_STOP + "\"')" +
+            "  AS descriptionHighlight" +
+            " FROM hits JOIN {h-schema}listing listing ON listing.id = hits.id, keywords" +
+            " ORDER BY hits.rank DESC, listing.id",
+            nativeQuery = true)
+    List<ListingSearchHit> searchByKeywords(String keywords, int limit, long offset);
+
+    @Query(value = "SELECT count(*) FROM {h-schema}listing listing" +
+            " WHERE listing.search_vector @@ websearch_to_tsquery('english', :keywords)" +
+            " AND listing.cover_picture_id IS NOT NULL",
+            nativeQuery = true)
+    long countByKeywords(String keywords);
 }
@@ -0,0 +1,18 @@
+package com.example.airbnbclone.listing.repository;
+
+import java.util.UUID;
+
+/**
+ * Row of the full-text search: the listing, its rank and its raw title and description with the matched terms between
+ * {@link ListingRepository#HIGHLIGHT_START} and {@link ListingRepository#HIGHLIGHT_STOP}.
+ */
+public interface ListingSearchHit {
+
+    UUID getPublicId();
+
+    Double getRank();
+
+    String getTitleHighlight();
+
+    String getDescriptionHighlight();
+}
@@ -0,0 +1,41 @@
+package com.example.airbnbclone.location.application;
+
+import com.example.airbnbclone.location.repository.LocationRepository;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keys of the {@code location} reference table, read once the changelogs have run. Listings store these keys while
+ * the rest of the application keeps working with the location codes.
+ */
+@Service
+@DependsOnDatabaseInitialization
+public class LocationCodeRegistry {
+
+    private final Map<String, Short> idsByCode;
+    private final Map<Short, String> codesById;
+
+    public LocationCodeRegistry(LocationRepository locationRepository) {
+        Map<Short, String> codesById = locationRepository.findAllCodesById();
+        this.codesById = Map.copyOf(codesById);
+        Map<String, Short> ids = new HashMap<>();
+        codesById.forEach((id, code) -> ids.put(code.toUpperCase(Locale.ROOT), id));
+        this.idsByCode = Map.copyOf(ids);
+    }
+
+    public Optional<Short> findId(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(idsByCode.get(code.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    public Optional<String> findCode(short id) {
+        return Optional.ofNullable(codesById.get(id));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.airbnbclone.location.application;
+
+import com.example.airbnbclone.location.application.dto.LocationAliasDTO;
+import com.example.airbnbclone.location.application.dto.LocationDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix index over the countries of {@code static/assets/countries.json}, built once at startup. Every code, name,
+ * alternative spelling and translation is normalised (lower case, no diacritics) and kept in one sorted array, so a
+ * suggestion is a binary search followed by a scan of the matching range.
+ */
+@Service
+public class LocationIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final String COUNTRIES_PATH = "static/assets/countries.json";
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private static final int RANK_NAME = 0;
+    private static final int RANK_OFFICIAL_NAME = 1;
+    private static final int RANK_OTHER = 2;
+    private static final int UNMATCHED = Integer.MAX_VALUE;
+
+    private final LocationDTO[] locations;
+    private final Map<String, LocationDTO> locationsByCode;
+    private final String[] keys;
+    private final int[] keyLocations;
+    private final byte[] keyRanks;
+
+    public LocationIndex(ObjectMapper objectMapper) throws IOException {
+        JsonNode countries;
+        try (InputStream input = new ClassPathResource(COUNTRIES_PATH).getInputStream()) {
+            countries = objectMapper.readTree(input);
+        }
+
+        locations = new LocationDTO[countries.size()];
+        locationsByCode = new HashMap<>();
+        Map<String, Integer> ranksByKey = new HashMap<>();
+        List<IndexKey> indexKeys = new ArrayList<>();
+        for (int i = 0; i < countries.size(); i++) {
+            JsonNode country = countries.get(i);
+            JsonNode latlng = country.path("latlng");
+            LocationDTO location = new LocationDTO(country.path("cca3").asText(),
+                    country.path("name").path("common").asText(),
+                    country.path("region").asText(), country.path("flag").asText(),
+                    latlng.size() == 2 ? latlng.get(0).asDouble() : null,
+                    latlng.size() == 2 ? latlng.get(1).asDouble() : null);
+            locations[i] = location;
+            locationsByCode.put(location.code(), location);
+
+            ranksByKey.clear();
+            addKey(ranksByKey, country.path("cca3").asText(), RANK_NAME);
+            addKey(ranksByKey, country.path("cca2").asText(), RANK_NAME);
+            addKey(ranksByKey, country.path("name").path("common").asText(), RANK_NAME);
+            addKey(ranksByKey, country.path("name").path("official").asText(), RANK_OFFICIAL_NAME);
+            country.path("name").path("native").forEach(name -> addKey(ranksByKey, name.path("common").asText(), RANK_OTHER));
+            country.path("translations").forEach(name -> addKey(ranksByKey, name.path("common").asText(), RANK_OTHER));
+            country.path("altSpellings").forEach(name -> addKey(ranksByKey, name.asText(), RANK_OTHER));
+            for (Map.Entry<String, Integer> entry : ranksByKey.entrySet()) {
+                indexKeys.add(new IndexKey(entry.getKey(), i, entry.getValue()));
+            }
+        }
+
+        indexKeys.sort(Comparator.comparing(IndexKey::key));
+        keys = new String[indexKeys.size()];
+        keyLocations = new int[indexKeys.size()];
+        keyRanks = new byte[indexKeys.size()];
+        for (int i = 0; i < indexKeys.size(); i++) {
+            IndexKey indexKey = indexKeys.get(i);
+            keys[i] = indexKey.key();
+            keyLocations[i] = indexKey.location();
+            keyRanks[i] = (byte) indexKey.rank();
+        }
+    }
+
+    /**
+     * Locations having a code or a name starting with the query, those matched by their own name first, then by
+     * alphabetical order of their name.
+     */
+    public List<LocationDTO> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] bestRanks = new int[locations.length];
+        Arrays.fill(bestRanks, UNMATCHED);
+        List<Integer> matches = new ArrayList<>();
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            int location = keyLocations[i];
+            int rank = keyRanks[i] * 2 + (keys[i].length() == prefix.length() ? 0 : 1);
+            if (bestRanks[location] == UNMATCHED) {
+                matches.add(location);
+            }
+            bestRanks[location] = Math.min(bestRanks[location], rank);
+        }
+
+        return matches.stream()
+                .sorted(Comparator.<Integer>comparingInt(location -> bestRanks[location])
+                        .thenComparing(location -> locations[location].name()))
+                .limit(Math.min(limit, MAX_SUGGESTIONS))
+                .map(location -> locations[location])
+                .toList();
+    }
+
+    public Optional<LocationDTO> getByCode(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(locationsByCode.get(code.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Every normalised code, name and spelling of the index with the code of its location.
+     */
+    public List<LocationAliasDTO> aliases() {
+        List<LocationAliasDTO> aliases = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            aliases.add(new LocationAliasDTO(keys[i], locations[keyLocations[i]].code()));
+        }
+        return aliases;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(withoutDiacritics.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static void addKey(Map<String, Integer> ranksByKey, String value, int rank) {
+        String key = normalize(value);
+        if (!key.isEmpty()) {
+            ranksByKey.merge(key, rank, Math::min);
+        }
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private record IndexKey(String key, int location, int rank) {
+    }
+}
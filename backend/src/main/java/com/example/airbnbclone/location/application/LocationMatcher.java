@@ -0,0 +1,85 @@
+package com.example.airbnbclone.location.application;
+
+import com.example.airbnbclone.location.application.dto.LocationAliasDTO;
+import com.example.airbnbclone.location.application.dto.LocationDTO;
+import com.example.airbnbclone.location.application.dto.LocationMatchDTO;
+import com.example.airbnbclone.location.repository.LocationAliasRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resolves the location typed in a search to the codes stored on the listings. A known code is used as is, anything
+ * else is matched by trigram similarity against the names and spellings of the locations: in memory by default, or
+ * through the {@code pg_trgm} index of {@code location_alias} when {@code pg-trgm-enabled} is set, the table being
+ * refreshed from {@link LocationIndex} at startup.
+ */
+@Service
+public class LocationMatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationMatcher.class);
+
+    private final LocationIndex locationIndex;
+    private final LocationAliasRepository locationAliasRepository;
+    private final TrigramLocationMatcher trigramLocationMatcher;
+    private final boolean pgTrgmEnabled;
+    private final double similarityThreshold;
+    private final int maxMatches;
+
+    public LocationMatcher(LocationIndex locationIndex, LocationAliasRepository locationAliasRepository,
+                           @Value("${application.search.location-matching.pg-trgm-enabled:false}") boolean pgTrgmEnabled,
+                           @Value("${application.search.location-matching.similarity-threshold:0.3}") double similarityThreshold,
+                           @Value("${application.search.location-matching.max-matches:3}") int maxMatches) {
+        this.locationIndex = locationIndex;
+        this.locationAliasRepository = locationAliasRepository;
+        this.trigramLocationMatcher = new TrigramLocationMatcher(locationIndex.aliases());
+        this.pgTrgmEnabled = pgTrgmEnabled;
+        this.similarityThreshold = similarityThreshold;
+        this.maxMatches = Math.max(1, maxMatches);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        if (!pgTrgmEnabled) {
+            return;
+        }
+        List<LocationAliasDTO> aliases = locationIndex.aliases();
+        locationAliasRepository.replaceAll(aliases);
+        log.info("Loaded {} location aliases for trigram matching", aliases.size());
+    }
+
+    /**
+     * Codes to search for, most similar first. An exact name match resolves to that location only; an input matching
+     * nothing is kept as is, so that listings saved with a location unknown to the index can still be found.
+     */
+    @Transactional(readOnly = true)
+    public List<String> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return List.of();
+        }
+        Optional<LocationDTO> locationByCode = locationIndex.getByCode(location);
+        if (locationByCode.isPresent()) {
+            return List.of(locationByCode.get().code());
+        }
+
+        String normalized = LocationIndex.normalize(location);
+        List<LocationMatchDTO> matches = pgTrgmEnabled
+                ? locationAliasRepository.findClosest(normalized, similarityThreshold, maxMatches)
+                : trigramLocationMatcher.match(normalized, similarityThreshold, maxMatches);
+        if (matches.isEmpty()) {
+            return List.of(location.trim());
+        }
+        if (matches.getFirst().similarity() >= 1.0) {
+            return List.of(matches.getFirst().code());
+        }
+        return matches.stream().map(LocationMatchDTO::code).toList();
+    }
+}
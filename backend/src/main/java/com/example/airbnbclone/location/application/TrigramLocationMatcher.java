@@ -0,0 +1,96 @@
+package com.example.airbnbclone.location.application;
+
+import com.example.airbnbclone.location.application.dto.LocationAliasDTO;
+import com.example.airbnbclone.location.application.dto.LocationMatchDTO;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory counterpart of the {@code pg_trgm} similarity over the location aliases. Each alias is split into the
+ * trigrams of its words, padded with two spaces before and one after as {@code pg_trgm} does, and an inverted index
+ * maps every trigram to the aliases containing it, so a lookup only scores the aliases sharing a trigram with the input.
+ */
+public final class TrigramLocationMatcher {
+
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String[] codes;
+    private final int[] trigramCounts;
+    private final Map<String, int[]> aliasesByTrigram;
+
+    public TrigramLocationMatcher(List<LocationAliasDTO> aliases) {
+        codes = new String[aliases.size()];
+        trigramCounts = new int[aliases.size()];
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < aliases.size(); i++) {
+            Set<String> trigrams = trigrams(aliases.get(i).alias());
+            codes[i] = aliases.get(i).code();
+            trigramCounts[i] = trigrams.size();
+            for (String trigram : trigrams) {
+                postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        aliasesByTrigram = HashMap.newHashMap(postings.size());
+        postings.forEach((trigram, aliasIds) ->
+                aliasesByTrigram.put(trigram, aliasIds.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Locations having an alias at least as similar to the input as the threshold, most similar first. The
+     * similarity is the number of shared trigrams over the number of distinct trigrams of both strings.
+     */
+    public List<LocationMatchDTO> match(String input, double threshold, int limit) {
+        Set<String> inputTrigrams = trigrams(LocationIndex.normalize(input));
+        if (inputTrigrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] sharedCounts = new int[codes.length];
+        int[] candidates = new int[codes.length];
+        int candidateCount = 0;
+        for (String trigram : inputTrigrams) {
+            int[] aliasIds = aliasesByTrigram.get(trigram);
+            if (aliasIds == null) {
+                continue;
+            }
+            for (int aliasId : aliasIds) {
+                if (sharedCounts[aliasId]++ == 0) {
+                    candidates[candidateCount++] = aliasId;
+                }
+            }
+        }
+
+        Map<String, Double> bestSimilarities = new HashMap<>();
+        for (int i = 0; i < candidateCount; i++) {
+            int aliasId = candidates[i];
+            int shared = sharedCounts[aliasId];
+            double similarity = (double) shared / (inputTrigrams.size() + trigramCounts[aliasId] - shared);
+            if (similarity >= threshold) {
+                bestSimilarities.merge(codes[aliasId], similarity, Math::max);
+            }
+        }
+
+        return bestSimilarities.entrySet().stream()
+                .map(entry -> new LocationMatchDTO(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(LocationMatchDTO::similarity).reversed()
+                        .thenComparing(LocationMatchDTO::code))
+                .limit(limit)
+                .toList();
+    }
+
+    static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : WORD_SEPARATORS.split(value.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
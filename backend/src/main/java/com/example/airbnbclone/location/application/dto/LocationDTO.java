@@ -0,0 +1,9 @@
+package com.example.airbnbclone.location.application.dto;
+
+public record LocationDTO(String code,
+                          String name,
+                          String region,
+                          String flag,
+                          Double latitude,
+                          Double longitude) {
+}
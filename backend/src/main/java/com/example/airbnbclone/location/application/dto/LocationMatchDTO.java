@@ -0,0 +1,4 @@
+package com.example.airbnbclone.location.application.dto;
+
+public record LocationMatchDTO(String code, double similarity) {
+}
@@ -0,0 +1,41 @@
+package com.example.airbnbclone.location.presentation;
+
+import com.example.airbnbclone.location.application.LocationIndex;
+import com.example.airbnbclone.location.application.dto.LocationDTO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/locations")
+public class LocationResource {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
+    private final LocationIndex locationIndex;
+
+    public LocationResource(LocationIndex locationIndex) {
+        this.locationIndex = locationIndex;
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<LocationDTO>> suggest(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .body(locationIndex.suggest(q, limit));
+    }
+
+    @GetMapping("/get-one")
+    public ResponseEntity<LocationDTO> getOne(@RequestParam String code) {
+        return locationIndex.getByCode(code)
+                .map(location -> ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(location))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
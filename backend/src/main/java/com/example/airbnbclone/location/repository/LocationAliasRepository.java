@@ -0,0 +1,51 @@
+package com.example.airbnbclone.location.repository;
+
+import com.example.airbnbclone.location.application.dto.LocationAliasDTO;
+import com.example.airbnbclone.location.application.dto.LocationMatchDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class LocationAliasRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String deleteSql;
+
+    private final String insertSql;
+
+    private final String findClosestSql;
+
+    public LocationAliasRepository(JdbcTemplate jdbcTemplate,
+                                   @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.deleteSql = "DELETE FROM " + schema + ".location_alias";
+        this.insertSql = "INSERT INTO " + schema + ".location_alias (alias, location) VALUES (?, ?)";
+        this.findClosestSql = "SELECT location, max(similarity(alias, ?)) AS score FROM " + schema + ".location_alias" +
+                " WHERE alias % ? GROUP BY location HAVING max(similarity(alias, ?)) >= ?" +
+                " ORDER BY score DESC, location LIMIT ?";
+    }
+
+    public void replaceAll(List<LocationAliasDTO> aliases) {
+        jdbcTemplate.update(deleteSql);
+        jdbcTemplate.batchUpdate(insertSql, aliases, BATCH_SIZE, (ps, alias) -> {
+            ps.setString(1, alias.alias());
+            ps.setString(2, alias.code());
+        });
+    }
+
+    /**
+     * Uses the trigram GIN index through the {@code %} operator, which also filters on the
+     * {@code pg_trgm.similarity_threshold} of the session (0.3 by default).
+     */
+    public List<LocationMatchDTO> findClosest(String input, double threshold, int limit) {
+        return jdbcTemplate.query(findClosestSql,
+                (resultSet, rowNum) -> new LocationMatchDTO(resultSet.getString("location"), resultSet.getDouble("score")),
+                input, input, input, threshold, limit);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.airbnbclone.location.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class LocationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String findAllSql;
+
+    public LocationRepository(JdbcTemplate jdbcTemplate,
+                              @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.findAllSql = "SELECT id, code FROM " + schema + ".location";
+    }
+
+    public Map<Short, String> findAllCodesById() {
+        Map<Short, String> codesById = new HashMap<>();
+        jdbcTemplate.query(findAllSql, resultSet -> {
+            codesById.put(resultSet.getShort("id"), resultSet.getString("code"));
+        });
+        return codesById;
+    }
+}
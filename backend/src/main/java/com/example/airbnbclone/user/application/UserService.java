@@ -5,8 +5,10 @@ import com.example.airbnbclone.user.application.dto.ReadUserDTO;
 import com.example.airbnbclone.user.domain.User;
 import com.example.airbnbclone.user.mapper.UserMapper;
 import com.example.airbnbclone.user.repository.UserRepository;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,8 +31,11 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public ReadUserDTO getAuthenticatedUserFromSecurityContext() {
-        OAuth2User principal = (OAuth2User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = SecurityUtils.mapOauth2AttributesToUser(principal.getAttributes());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Map<String, Object> attributes = authentication instanceof JwtAuthenticationToken jwtAuthenticationToken
+                ? jwtAuthenticationToken.getTokenAttributes()
+                : ((OAuth2User) authentication.getPrincipal()).getAttributes();
+        User user = SecurityUtils.mapOauth2AttributesToUser(attributes);
         return getByEmail(user.getEmail()).orElseThrow();
     }
 
@@ -0,0 +1,62 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.booking.application.BookingLockManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingLockManagerTest {
+
+    @Test
+    void executeWithListingLock_ShouldRunActionWhenStripeIsFree() {
+        BookingLockManager lockManager = new BookingLockManager(16, 100, 4, false);
+
+        Optional<String> result = lockManager.executeWithListingLock(UUID.randomUUID(), () -> "booked");
+
+        assertEquals(Optional.of("booked"), result);
+    }
+
+    @Test
+    void executeWithListingLock_ShouldFailFastWhenListingIsHeldByAnotherBooking() throws Exception {
+        BookingLockManager lockManager = new BookingLockManager(16, 50, 4, false);
+        UUID listingPublicId = UUID.randomUUID();
+        CountDownLatch lockHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> lockManager.executeWithListingLock(listingPublicId, () -> {
+                lockHeld.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            }));
+            assertTrue(lockHeld.await(5, TimeUnit.SECONDS));
+
+            Optional<String> result = lockManager.executeWithListingLock(listingPublicId, () -> "second");
+
+            assertTrue(result.isEmpty());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void advisoryLockKey_ShouldBeStableForTheSameListing() {
+        UUID listingPublicId = UUID.randomUUID();
+
+        assertEquals(BookingLockManager.advisoryLockKey(listingPublicId),
+                BookingLockManager.advisoryLockKey(UUID.fromString(listingPublicId.toString())));
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.airbnbclone;
 
+import com.example.airbnbclone.booking.application.BookingLockManager;
 import com.example.airbnbclone.booking.application.BookingService;
 import com.example.airbnbclone.booking.application.dto.BookedDateDTO;
+import com.example.airbnbclone.booking.application.dto.BookingBatchResultDTO;
+import com.example.airbnbclone.booking.application.dto.BookingQuoteDTO;
 import com.example.airbnbclone.booking.application.dto.NewBookingDTO;
 import com.example.airbnbclone.booking.domain.Booking;
 import com.example.airbnbclone.booking.mapper.BookingMapper;
+import com.example.airbnbclone.booking.repository.BookingBatchRepository;
 import com.example.airbnbclone.booking.repository.BookingRepository;
 import com.example.airbnbclone.listing.application.LandlordService;
 import com.example.airbnbclone.listing.application.dto.ListingCreateBookingDTO;
 import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.example.airbnbclone.listing.domain.ListingRate;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
 import com.example.airbnbclone.sharedkernel.service.State;
+import com.example.airbnbclone.sharedkernel.service.StatusNotification;
 import com.example.airbnbclone.user.application.UserService;
 import com.example.airbnbclone.user.application.dto.ReadUserDTO;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,9 +24,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -41,6 +55,15 @@ class BookingServiceTest {
     @Mock
     private LandlordService landlordService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BookingBatchRepository bookingBatchRepository;
+
+    @Spy
+    private BookingLockManager bookingLockManager = new BookingLockManager(16, 100, 4, false);
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -80,7 +103,28 @@ class BookingServiceTest {
         // Assert
         assertNotNull(result, "Result should not be null");
         assertTrue(result.isSuccess(), "Booking creation should be successful");
-        verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(bookingRepository, times(1)).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void testCreateBooking_ConcurrentOverlapRejectedByConstraint() {
+        OffsetDateTime startDate = OffsetDateTime.now();
+        NewBookingDTO newBookingDTO = new NewBookingDTO(startDate, startDate.plusDays(2), UUID.randomUUID());
+        ReadUserDTO user = new ReadUserDTO(UUID.randomUUID(), "John", "Doe", "tenant@example.com", null, Set.of("ROLE_USER"));
+        ListingCreateBookingDTO listing = new ListingCreateBookingDTO(newBookingDTO.listingPublicId(), new PriceVO(100));
+        SQLException exclusionViolation = new SQLException("conflicting key value violates exclusion constraint \"booking_no_overlap\"", "23P01");
+
+        when(bookingMapper.newBookingToBooking(newBookingDTO)).thenReturn(new Booking());
+        when(landlordService.getByListingPublicId(newBookingDTO.listingPublicId())).thenReturn(Optional.of(listing));
+        when(bookingRepository.bookingExistsAtInterval(any(), any(), any())).thenReturn(false);
+        when(userService.getAuthenticatedUserFromSecurityContext()).thenReturn(user);
+        when(bookingRepository.saveAndFlush(any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", exclusionViolation));
+
+        State<Void, String> result = bookingService.create(newBookingDTO);
+
+        assertFalse(result.isSuccess());
+        assertEquals("One booking already exists", result.getError());
     }
 
 
@@ -100,6 +144,87 @@ class BookingServiceTest {
         assertEquals("Landlord public id not found", result.getError());
     }
 
+    @Test
+    void testCreateAll_RejectsOverlapsAndInsertsTheRestInOneBatch() {
+        OffsetDateTime startDate = OffsetDateTime.now();
+        UUID listingId = UUID.randomUUID();
+        UUID unknownListingId = UUID.randomUUID();
+        ReadUserDTO user = new ReadUserDTO(UUID.randomUUID(), "John", "Doe", "tenant@example.com", null, Set.of("ROLE_USER"));
+        NewBookingDTO free = new NewBookingDTO(startDate, startDate.plusDays(2), listingId);
+        NewBookingDTO overlapsExisting = new NewBookingDTO(startDate.plusDays(5), startDate.plusDays(7), listingId);
+        NewBookingDTO overlapsBatch = new NewBookingDTO(startDate.plusDays(1), startDate.plusDays(3), listingId);
+        NewBookingDTO unknownListing = new NewBookingDTO(startDate, startDate.plusDays(1), unknownListingId);
+        Booking existingBooking = new Booking();
+        existingBooking.setFkListing(listingId);
+        existingBooking.setStartDate(startDate.plusDays(6));
+        existingBooking.setEndDate(startDate.plusDays(8));
+
+        when(userService.getAuthenticatedUserFromSecurityContext()).thenReturn(user);
+        when(landlordService.getAllByListingPublicIds(anyList()))
+                .thenReturn(List.of(new ListingCreateBookingDTO(listingId, new PriceVO(100))));
+        when(bookingRepository.findAllMatchWithDate(anyList(), any(), any())).thenReturn(List.of(existingBooking));
+        when(bookingMapper.newBookingToBooking(any())).thenAnswer(invocation -> new Booking());
+
+        List<BookingBatchResultDTO> results = bookingService.createAll(List.of(free, overlapsExisting, overlapsBatch, unknownListing));
+
+        assertEquals(4, results.size());
+        assertEquals(StatusNotification.OK, results.get(0).status());
+        assertNotNull(results.get(0).bookingPublicId());
+        assertEquals("One booking already exists", results.get(1).error());
+        assertEquals("One booking already exists", results.get(2).error());
+        assertEquals("Landlord public id not found", results.get(3).error());
+        verify(landlordService, times(1)).getAllByListingPublicIds(anyList());
+        verify(bookingRepository, times(1)).findAllMatchWithDate(anyList(), any(), any());
+        verify(bookingBatchRepository, times(1)).insertAll(argThat(bookings -> bookings.size() == 1));
+    }
+
+    @Test
+    void testCreateBooking_RejectsEndBeforeStart() {
+        OffsetDateTime startDate = OffsetDateTime.now();
+        NewBookingDTO newBookingDTO = new NewBookingDTO(startDate, startDate.minusDays(1), UUID.randomUUID());
+
+        State<Void, String> result = bookingService.create(newBookingDTO);
+
+        assertFalse(result.isSuccess());
+        assertEquals("End date must be after start date", result.getError());
+        verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void testCreateAll_ReplaysOnlyAcceptedBookingsWhenTheBatchLosesARace() {
+        OffsetDateTime startDate = OffsetDateTime.now();
+        UUID listingId = UUID.randomUUID();
+        UUID otherListingId = UUID.randomUUID();
+        ReadUserDTO user = new ReadUserDTO(UUID.randomUUID(), "John", "Doe", "tenant@example.com", null, Set.of("ROLE_USER"));
+        NewBookingDTO stillFree = new NewBookingDTO(startDate, startDate.plusDays(2), listingId);
+        NewBookingDTO takenMeanwhile = new NewBookingDTO(startDate, startDate.plusDays(2), otherListingId);
+        NewBookingDTO endBeforeStart = new NewBookingDTO(startDate.plusDays(5), startDate.plusDays(3), listingId);
+        ListingCreateBookingDTO listing = new ListingCreateBookingDTO(listingId, new PriceVO(100));
+        ListingCreateBookingDTO otherListing = new ListingCreateBookingDTO(otherListingId, new PriceVO(100));
+        SQLException exclusionViolation = new SQLException("conflicting key value violates exclusion constraint \"booking_no_overlap\"", "23P01");
+
+        when(userService.getAuthenticatedUserFromSecurityContext()).thenReturn(user);
+        when(landlordService.getAllByListingPublicIds(anyList())).thenReturn(List.of(listing, otherListing));
+        when(bookingRepository.findAllMatchWithDate(anyList(), any(), any())).thenReturn(List.of());
+        when(bookingMapper.newBookingToBooking(any())).thenAnswer(invocation -> new Booking());
+        doThrow(new DataIntegrityViolationException("could not execute batch", exclusionViolation))
+                .when(bookingBatchRepository).insertAll(anyList());
+        when(landlordService.getByListingPublicId(listingId)).thenReturn(Optional.of(listing));
+        when(landlordService.getByListingPublicId(otherListingId)).thenReturn(Optional.of(otherListing));
+        when(bookingRepository.bookingExistsAtInterval(any(), any(), eq(listingId))).thenReturn(false);
+        when(bookingRepository.bookingExistsAtInterval(any(), any(), eq(otherListingId))).thenReturn(true);
+
+        List<BookingBatchResultDTO> results = bookingService.createAll(List.of(stillFree, takenMeanwhile, endBeforeStart));
+
+        assertEquals(3, results.size());
+        assertEquals(StatusNotification.OK, results.get(0).status());
+        assertEquals("One booking already exists", results.get(1).error());
+        assertEquals(StatusNotification.ERROR, results.get(2).status());
+        assertEquals("End date must be after start date", results.get(2).error());
+        verify(landlordService, times(2)).getByListingPublicId(any());
+        verify(bookingRepository, times(1)).saveAndFlush(any(Booking.class));
+    }
+
     @Test
     void testCheckAvailability() {
         UUID listingId = UUID.randomUUID();
@@ -119,6 +244,99 @@ class BookingServiceTest {
         assertEquals(bookedDateDTO, availability.get(0));
     }
 
+    @Test
+    void testGetEarliestFreeStays_ScansAllListingsFromOneQuery() {
+        UUID partlyBooked = UUID.randomUUID();
+        UUID fullyBooked = UUID.randomUUID();
+        UUID free = UUID.randomUUID();
+        OffsetDateTime march1 = OffsetDateTime.of(2030, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        BookedDateDTO range = new BookedDateDTO(march1, march1.plusDays(10));
+
+        when(bookingRepository.findAllMatchWithDate(anyList(), any(), any())).thenReturn(List.of(
+                booking(partlyBooked, march1.plusDays(1), march1.plusDays(4)),
+                booking(partlyBooked, march1.plusDays(7), march1.plusDays(8)),
+                booking(fullyBooked, march1.minusDays(2), march1.plusDays(12))));
+
+        Map<UUID, List<BookedDateDTO>> freeStays = bookingService.getEarliestFreeStays(
+                List.of(partlyBooked, fullyBooked, free), range, 3, 3);
+
+        assertEquals(List.of(new BookedDateDTO(march1.plusDays(4), march1.plusDays(7))), freeStays.get(partlyBooked));
+        assertFalse(freeStays.containsKey(fullyBooked));
+        assertEquals(List.of(march1, march1.plusDays(1), march1.plusDays(2)),
+                freeStays.get(free).stream().map(BookedDateDTO::startDate).toList());
+        verify(bookingRepository, times(1)).findAllMatchWithDate(anyList(), any(), any());
+    }
+
+    @Test
+    void testGetEarliestFreeStays_CountsNightsAtTheOffsetOfTheRange() {
+        UUID listingId = UUID.randomUUID();
+        ZoneOffset paris = ZoneOffset.ofHours(1);
+        OffsetDateTime march1 = OffsetDateTime.of(2030, 3, 1, 0, 0, 0, 0, paris);
+        BookedDateDTO range = new BookedDateDTO(march1, march1.plusDays(5));
+
+        when(bookingRepository.findAllMatchWithDate(anyList(), any(), any())).thenReturn(List.of(
+                booking(listingId, march1.withOffsetSameInstant(ZoneOffset.UTC), march1.plusDays(2).withOffsetSameInstant(ZoneOffset.UTC))));
+
+        Map<UUID, List<BookedDateDTO>> freeStays = bookingService.getEarliestFreeStays(List.of(listingId), range, 2, 1);
+
+        assertEquals(List.of(new BookedDateDTO(march1.plusDays(2), march1.plusDays(4))), freeStays.get(listingId));
+        verify(bookingRepository).findAllMatchWithDate(anyList(), eq(march1), eq(march1.plusDays(5)));
+    }
+
+    @Test
+    void testCreateBooking_PricesNightsOnTheCalendarDaysOfTheUser() {
+        UUID listingId = UUID.randomUUID();
+        LocalDate march1 = LocalDate.of(2030, 3, 1);
+        ListingRate sundays = rate(march1, march1.plusMonths(1), (short) 0b1000000, 150);
+        NightlyRateCalendar calendar = NightlyRateCalendar.build(march1, 100, List.of(sundays));
+        OffsetDateTime sundayInParis = march1.plusDays(2).atStartOfDay().atOffset(ZoneOffset.ofHours(1));
+        NewBookingDTO newBookingDTO = new NewBookingDTO(sundayInParis, sundayInParis.plusDays(1), listingId);
+        ReadUserDTO user = new ReadUserDTO(UUID.randomUUID(), "John", "Doe", "tenant@example.com", null, Set.of("ROLE_USER"));
+        Booking booking = new Booking();
+
+        when(bookingMapper.newBookingToBooking(newBookingDTO)).thenReturn(booking);
+        when(landlordService.getByListingPublicId(listingId))
+                .thenReturn(Optional.of(new ListingCreateBookingDTO(listingId, new PriceVO(100), calendar)));
+        when(bookingRepository.bookingExistsAtInterval(any(), any(), any())).thenReturn(false);
+        when(userService.getAuthenticatedUserFromSecurityContext()).thenReturn(user);
+
+        State<Void, String> result = bookingService.create(newBookingDTO);
+
+        assertTrue(result.isSuccess());
+        assertEquals(150, booking.getTotalPrice());
+    }
+
+    @Test
+    void testQuote_PricesEachNightFromTheRateCalendar() {
+        UUID listingId = UUID.randomUUID();
+        LocalDate march1 = LocalDate.of(2030, 3, 1);
+        ListingRate weekends = rate(march1, march1.plusMonths(1), (short) 0b0110000, 150);
+        ListingRate lowSeason = rate(march1.plusDays(2), march1.plusDays(4), ListingRate.EVERY_DAY, 80);
+        NightlyRateCalendar calendar = NightlyRateCalendar.build(march1, 100, List.of(weekends, lowSeason));
+        when(landlordService.getCachedByListingPublicId(listingId))
+                .thenReturn(Optional.of(new ListingCreateBookingDTO(listingId, new PriceVO(100), calendar)));
+
+        State<BookingQuoteDTO, String> result = bookingService.quote(listingId, march1, march1.plusDays(5));
+
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getValue().nights());
+        assertEquals(List.of(150, 150, 80, 80, 100),
+                result.getValue().nightlyPrices().stream().map(nightlyPrice -> nightlyPrice.price().value()).toList());
+        assertEquals(560, result.getValue().totalPrice().value());
+        assertEquals(300, calendar.totalPrice(march1.plusDays(NightlyRateCalendar.HORIZON_DAYS - 1),
+                march1.plusDays(NightlyRateCalendar.HORIZON_DAYS + 2)));
+    }
+
+    @Test
+    void testQuote_RejectsStayWithoutNight() {
+        LocalDate startDate = LocalDate.of(2030, 3, 1);
+
+        State<BookingQuoteDTO, String> result = bookingService.quote(UUID.randomUUID(), startDate, startDate);
+
+        assertFalse(result.isSuccess());
+        verify(landlordService, never()).getCachedByListingPublicId(any());
+    }
+
     @Test
     void testCancelBooking_SuccessByTenant() {
         UUID bookingId = UUID.randomUUID();
@@ -162,4 +380,21 @@ class BookingServiceTest {
         assertFalse(result.isSuccess());
         assertEquals("Booking not found", result.getError());
     }
-}
\ No newline at end of file
+
+    private static Booking booking(UUID listingId, OffsetDateTime startDate, OffsetDateTime endDate) {
+        Booking booking = new Booking();
+        booking.setFkListing(listingId);
+        booking.setStartDate(startDate);
+        booking.setEndDate(endDate);
+        return booking;
+    }
+
+    private static ListingRate rate(LocalDate startDate, LocalDate endDate, short daysOfWeek, int price) {
+        ListingRate rate = new ListingRate();
+        rate.setStartDate(startDate);
+        rate.setEndDate(endDate);
+        rate.setDaysOfWeek(daysOfWeek);
+        rate.setPrice(price);
+        return rate;
+    }
+}
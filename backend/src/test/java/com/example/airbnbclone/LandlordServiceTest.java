@@ -1,12 +1,19 @@
 package com.example.airbnbclone;
 
 import com.example.airbnbclone.listing.application.LandlordService;
+import com.example.airbnbclone.listing.application.ListingClusterIndex;
+import com.example.airbnbclone.listing.application.ListingPriceCache;
+import com.example.airbnbclone.listing.application.ListingRateService;
+import com.example.airbnbclone.listing.application.ListingSpatialIndex;
 import com.example.airbnbclone.listing.application.PictureService;
 import com.example.airbnbclone.listing.application.dto.CreatedListingDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
 import com.example.airbnbclone.listing.application.dto.ListingCreateBookingDTO;
 import com.example.airbnbclone.listing.application.dto.SaveListingDTO;
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.example.airbnbclone.listing.domain.GeoPoint;
 import com.example.airbnbclone.listing.domain.Listing;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
 import com.example.airbnbclone.listing.mapper.ListingMapper;
 import com.example.airbnbclone.listing.repository.ListingRepository;
 import com.example.airbnbclone.sharedkernel.service.State;
@@ -15,6 +22,8 @@ import com.example.airbnbclone.user.application.UserService;
 import com.example.airbnbclone.user.application.dto.ReadUserDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +40,10 @@ class LandlordServiceTest {
     private UserService userService;
     private Auth0Service auth0Service;
     private PictureService pictureService;
+    private ListingSpatialIndex listingSpatialIndex;
+    private ListingClusterIndex listingClusterIndex;
+    private ListingRateService listingRateService;
+    private ListingPriceCache listingPriceCache;
 
     @BeforeEach
     void setUp() {
@@ -39,8 +52,13 @@ class LandlordServiceTest {
         userService = mock(UserService.class);
         auth0Service = mock(Auth0Service.class);
         pictureService = mock(PictureService.class);
+        listingSpatialIndex = mock(ListingSpatialIndex.class);
+        listingClusterIndex = mock(ListingClusterIndex.class);
+        listingRateService = mock(ListingRateService.class);
+        listingPriceCache = new ListingPriceCache(10, 60);
 
-        landlordService = new LandlordService(listingRepository, listingMapper, userService, auth0Service, pictureService);
+        landlordService = new LandlordService(listingRepository, listingMapper, userService, auth0Service, pictureService,
+                listingSpatialIndex, listingClusterIndex, listingRateService, listingPriceCache);
 
     }
 
@@ -55,6 +73,7 @@ class LandlordServiceTest {
 
         when(listingMapper.saveListingDTOToListing(saveListingDTO)).thenReturn(listing);
         when(userService.getAuthenticatedUserFromSecurityContext()).thenReturn(userConnected);
+        when(savedListing.getPublicId()).thenReturn(UUID.randomUUID());
         when(listingRepository.saveAndFlush(listing)).thenReturn(savedListing);
         when(listingMapper.listingToCreatedListingDTO(savedListing)).thenReturn(createdListingDTO);
 
@@ -69,6 +88,31 @@ class LandlordServiceTest {
         assertEquals(createdListingDTO, result);
     }
 
+    @Test
+    void create_ShouldStoreAndIndexCoordinates() {
+        SaveListingDTO saveListingDTO = new SaveListingDTO();
+        saveListingDTO.setLocation("FRA");
+        saveListingDTO.setLatitude(48.85);
+        saveListingDTO.setLongitude(2.35);
+        Listing listing = new Listing();
+        Listing savedListing = new Listing();
+        savedListing.setPublicId(UUID.randomUUID());
+        savedListing.setPrice(120);
+        GeoPoint point = new GeoPoint(48.85, 2.35);
+
+        when(listingMapper.saveListingDTOToListing(saveListingDTO)).thenReturn(listing);
+        when(userService.getAuthenticatedUserFromSecurityContext()).thenReturn(mock(ReadUserDTO.class));
+        when(listingSpatialIndex.coordinatesOf("FRA", 48.85, 2.35)).thenReturn(Optional.of(point));
+        when(listingRepository.saveAndFlush(listing)).thenReturn(savedListing);
+
+        landlordService.create(saveListingDTO);
+
+        assertEquals(48.85, listing.getLatitude());
+        assertEquals(2.35, listing.getLongitude());
+        verify(listingSpatialIndex).put(savedListing.getPublicId(), point);
+        verify(listingClusterIndex).add(savedListing.getPublicId(), point, 120);
+    }
+
     @Test
     void getAllProperties_ShouldReturnDisplayCardListings() {
         // Arrange
@@ -101,6 +145,31 @@ class LandlordServiceTest {
         // Assert
         assertTrue(result.isSuccess());
         assertEquals(publicId, result.getData());
+        verify(listingSpatialIndex).remove(publicId);
+        verify(listingClusterIndex).remove(publicId);
+    }
+
+    @Test
+    void delete_ShouldUpdateIndexesOnlyOnceCommitted() {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        ReadUserDTO landlord = mock(ReadUserDTO.class);
+        when(landlord.publicId()).thenReturn(UUID.randomUUID());
+        when(listingRepository.deleteByPublicIdAndLandlordPublicId(publicId, landlord.publicId())).thenReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            landlordService.delete(publicId, landlord);
+
+            // Assert
+            verify(listingSpatialIndex, never()).remove(any());
+            verify(listingClusterIndex, never()).remove(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(listingSpatialIndex).remove(publicId);
+            verify(listingClusterIndex).remove(publicId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -117,6 +186,7 @@ class LandlordServiceTest {
         // Assert
         assertFalse(result.isSuccess());
         assertEquals("User not authorized to delete this listing", result.getError());
+        verify(listingSpatialIndex, never()).remove(any());
     }
 
     @Test
@@ -125,9 +195,11 @@ class LandlordServiceTest {
         UUID publicId = UUID.randomUUID();
         Listing listing = mock(Listing.class);
         ListingCreateBookingDTO bookingDTO = mock(ListingCreateBookingDTO.class);
+        NightlyRateCalendar calendar = NightlyRateCalendar.flat(100);
 
         when(listingRepository.findByPublicId(publicId)).thenReturn(Optional.of(listing));
-        when(listingMapper.mapListingToListingCreateBookingDTO(listing)).thenReturn(bookingDTO);
+        when(listingRateService.getCalendar(listing)).thenReturn(calendar);
+        when(listingMapper.mapListingToListingCreateBookingDTO(listing, calendar)).thenReturn(bookingDTO);
 
         // Act
         Optional<ListingCreateBookingDTO> result = landlordService.getByListingPublicId(publicId);
@@ -137,6 +209,29 @@ class LandlordServiceTest {
         assertEquals(bookingDTO, result.get());
     }
 
+    @Test
+    void getCachedByListingPublicId_ShouldReadListingOnceUntilEvicted() {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        Listing listing = mock(Listing.class);
+        NightlyRateCalendar calendar = NightlyRateCalendar.flat(100);
+        ListingCreateBookingDTO bookingDTO = new ListingCreateBookingDTO(publicId, new PriceVO(100), calendar);
+
+        when(listingRepository.findByPublicId(publicId)).thenReturn(Optional.of(listing));
+        when(listingRateService.getCalendar(listing)).thenReturn(calendar);
+        when(listingMapper.mapListingToListingCreateBookingDTO(listing, calendar)).thenReturn(bookingDTO);
+
+        // Act
+        landlordService.getCachedByListingPublicId(publicId);
+        Optional<ListingCreateBookingDTO> cached = landlordService.getCachedByListingPublicId(publicId);
+        listingPriceCache.evict(publicId);
+        landlordService.getCachedByListingPublicId(publicId);
+
+        // Assert
+        assertEquals(Optional.of(bookingDTO), cached);
+        verify(listingRepository, times(2)).findByPublicId(publicId);
+    }
+
     @Test
     void getCardDisplayByListingPublicId_ShouldReturnDisplayCardListingDTOs() {
         // Arrange
@@ -144,7 +239,7 @@ class LandlordServiceTest {
         Listing listing = mock(Listing.class);
         DisplayCardListingDTO dto = mock(DisplayCardListingDTO.class);
 
-        when(listingRepository.findAllByPublicIdIn(publicIds)).thenReturn(List.of(listing));
+        when(listingRepository.findAllByPublicIdInFetchCoverPicture(publicIds)).thenReturn(List.of(listing));
         when(listingMapper.listingToDisplayCardListingDTO(listing)).thenReturn(dto);
 
         // Act
@@ -163,7 +258,7 @@ class LandlordServiceTest {
         Listing listing = mock(Listing.class);
         DisplayCardListingDTO dto = mock(DisplayCardListingDTO.class);
 
-        when(listingRepository.findOneByPublicIdAndLandlordPublicId(listingPublicId, landlordPublicId)).thenReturn(Optional.of(listing));
+        when(listingRepository.findOneByPublicIdAndLandlordPublicIdFetchCoverPicture(listingPublicId, landlordPublicId)).thenReturn(Optional.of(listing));
         when(listingMapper.listingToDisplayCardListingDTO(listing)).thenReturn(dto);
 
         // Act
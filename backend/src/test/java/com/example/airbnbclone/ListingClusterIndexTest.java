@@ -0,0 +1,94 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.listing.application.ListingClusterIndex;
+import com.example.airbnbclone.listing.application.ListingSpatialIndex;
+import com.example.airbnbclone.listing.application.dto.ListingClusterDTO;
+import com.example.airbnbclone.listing.domain.GeoBounds;
+import com.example.airbnbclone.listing.domain.GeoPoint;
+import com.example.airbnbclone.listing.domain.Geohash;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ListingClusterIndexTest {
+
+    private static final GeoBounds EUROPE = new GeoBounds(35, -10, 60, 30);
+
+    private ListingClusterIndex listingClusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        listingClusterIndex = new ListingClusterIndex(mock(ListingRepository.class), mock(ListingSpatialIndex.class));
+    }
+
+    @Test
+    void geohash_ShouldMatchReferenceValues() {
+        assertEquals("u4pruydqqvj", Geohash.encode(57.64911, 10.40744, 11));
+        assertEquals("u09tvw", Geohash.encode(48.8566, 2.3522, 6));
+        assertEquals(45.0, Geohash.cellWidth(1));
+        assertEquals(45.0, Geohash.cellHeight(1));
+    }
+
+    @Test
+    void findClusters_ShouldAggregateCountCentroidAndMinPrice() {
+        listingClusterIndex.add(UUID.randomUUID(), new GeoPoint(48.86, 2.33), 120);
+        listingClusterIndex.add(UUID.randomUUID(), new GeoPoint(48.84, 2.37), 90);
+        listingClusterIndex.add(UUID.randomUUID(), new GeoPoint(45.76, 4.83), 70);
+
+        List<ListingClusterDTO> clusters = listingClusterIndex.findClusters(EUROPE, 3);
+
+        assertEquals(2, clusters.size());
+        ListingClusterDTO paris = clusters.stream().max(Comparator.comparingInt(ListingClusterDTO::count)).orElseThrow();
+        assertEquals(2, paris.count());
+        assertEquals(90, paris.minPrice().value());
+        assertEquals(48.85, paris.latitude(), 1e-9);
+        assertEquals(2.35, paris.longitude(), 1e-9);
+        assertEquals("u09", paris.geohash());
+    }
+
+    @Test
+    void remove_ShouldKeepMinPriceExact() {
+        UUID cheapest = UUID.randomUUID();
+        listingClusterIndex.add(cheapest, new GeoPoint(48.86, 2.33), 50);
+        listingClusterIndex.add(UUID.randomUUID(), new GeoPoint(48.84, 2.37), 90);
+
+        listingClusterIndex.remove(cheapest);
+
+        List<ListingClusterDTO> clusters = listingClusterIndex.findClusters(new GeoBounds(48.8, 2.3, 48.9, 2.4), 2);
+        assertEquals(1, clusters.size());
+        assertEquals(1, clusters.get(0).count());
+        assertEquals(90, clusters.get(0).minPrice().value());
+    }
+
+    @Test
+    void remove_ShouldDropEmptyCells() {
+        UUID publicId = UUID.randomUUID();
+        listingClusterIndex.add(publicId, new GeoPoint(48.86, 2.33), 50);
+        listingClusterIndex.remove(publicId);
+
+        assertTrue(listingClusterIndex.findClusters(EUROPE, 1).isEmpty());
+    }
+
+    @Test
+    void findClusters_ShouldOnlyReturnCellsInView() {
+        listingClusterIndex.add(UUID.randomUUID(), new GeoPoint(48.86, 2.33), 120);
+        listingClusterIndex.add(UUID.randomUUID(), new GeoPoint(40.71, -74.00), 200);
+
+        assertEquals(1, listingClusterIndex.findClusters(EUROPE, 4).size());
+        assertEquals(2, listingClusterIndex.findClusters(new GeoBounds(-90, -180, 90, 180), 4).size());
+    }
+
+    @Test
+    void precisionForZoom_ShouldGrowWithZoom() {
+        assertEquals(1, ListingClusterIndex.precisionForZoom(0));
+        assertTrue(ListingClusterIndex.precisionForZoom(8) > ListingClusterIndex.precisionForZoom(4));
+        assertEquals(6, ListingClusterIndex.precisionForZoom(22));
+    }
+}
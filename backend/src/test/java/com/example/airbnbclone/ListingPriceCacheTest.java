@@ -0,0 +1,87 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.listing.application.ListingPriceCache;
+import com.example.airbnbclone.listing.application.dto.ListingCreateBookingDTO;
+import com.example.airbnbclone.listing.application.dto.vo.PriceVO;
+import com.example.airbnbclone.listing.domain.ListingRate;
+import com.example.airbnbclone.listing.domain.NightlyRateCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListingPriceCacheTest {
+
+    private ListingPriceCache listingPriceCache;
+
+    @BeforeEach
+    void setUp() {
+        listingPriceCache = new ListingPriceCache(2, 60);
+    }
+
+    @Test
+    void get_ShouldReturnPutPriceUntilEvicted() {
+        ListingCreateBookingDTO price = new ListingCreateBookingDTO(UUID.randomUUID(), new PriceVO(100));
+
+        listingPriceCache.put(price, listingPriceCache.stamp());
+        assertEquals(price, listingPriceCache.get(price.listingPublicId()));
+
+        listingPriceCache.evict(price.listingPublicId());
+        assertNull(listingPriceCache.get(price.listingPublicId()));
+    }
+
+    @Test
+    void put_ShouldIgnorePriceLoadedBeforeAnEviction() {
+        ListingCreateBookingDTO price = new ListingCreateBookingDTO(UUID.randomUUID(), new PriceVO(100));
+        long stamp = listingPriceCache.stamp();
+
+        listingPriceCache.evict(price.listingPublicId());
+        listingPriceCache.put(price, stamp);
+
+        assertNull(listingPriceCache.get(price.listingPublicId()));
+    }
+
+    @Test
+    void get_ShouldIgnoreCalendarStartingBeforeToday() {
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        ListingRate rate = new ListingRate();
+        rate.setStartDate(yesterday);
+        rate.setEndDate(yesterday.plusDays(7));
+        rate.setDaysOfWeek(ListingRate.EVERY_DAY);
+        rate.setPrice(150);
+        ListingCreateBookingDTO price = new ListingCreateBookingDTO(UUID.randomUUID(), new PriceVO(100),
+                NightlyRateCalendar.build(yesterday, 100, List.of(rate)));
+
+        listingPriceCache.put(price, listingPriceCache.stamp());
+
+        assertNull(listingPriceCache.get(price.listingPublicId()));
+    }
+
+    @Test
+    void get_ShouldIgnoreExpiredPrice() {
+        ListingPriceCache expiringCache = new ListingPriceCache(2, 0);
+        ListingCreateBookingDTO price = new ListingCreateBookingDTO(UUID.randomUUID(), new PriceVO(100));
+
+        expiringCache.put(price, expiringCache.stamp());
+
+        assertNull(expiringCache.get(price.listingPublicId()));
+    }
+
+    @Test
+    void put_ShouldStayWithinMaxSize() {
+        List<ListingCreateBookingDTO> prices = List.of(
+                new ListingCreateBookingDTO(UUID.randomUUID(), new PriceVO(100)),
+                new ListingCreateBookingDTO(UUID.randomUUID(), new PriceVO(200)),
+                new ListingCreateBookingDTO(UUID.randomUUID(), new PriceVO(300)));
+
+        prices.forEach(price -> listingPriceCache.put(price, listingPriceCache.stamp()));
+
+        assertNull(listingPriceCache.get(prices.get(0).listingPublicId()));
+        assertEquals(prices.get(2), listingPriceCache.get(prices.get(2).listingPublicId()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.listing.application.ListingSpatialIndex;
+import com.example.airbnbclone.listing.domain.GeoBounds;
+import com.example.airbnbclone.listing.domain.GeoPoint;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.location.application.LocationIndex;
+import com.example.airbnbclone.location.application.dto.LocationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ListingSpatialIndexTest {
+
+    private static final GeoBounds PARIS = new GeoBounds(48.80, 2.25, 48.92, 2.42);
+
+    private LocationIndex locationIndex;
+    private ListingSpatialIndex listingSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        locationIndex = mock(LocationIndex.class);
+        listingSpatialIndex = new ListingSpatialIndex(mock(ListingRepository.class), locationIndex);
+    }
+
+    @Test
+    void findNearest_ShouldReturnListingsInBoundsNearestFirst() {
+        UUID louvre = put(48.861, 2.336);
+        UUID notreDame = put(48.853, 2.350);
+        UUID versailles = put(48.805, 2.120);
+        UUID lyon = put(45.764, 4.835);
+
+        List<UUID> result = listingSpatialIndex.findNearest(PARIS, new GeoPoint(48.860, 2.337), null, 10);
+
+        assertEquals(List.of(louvre, notreDame), result);
+        assertFalse(result.contains(versailles));
+        assertFalse(result.contains(lyon));
+    }
+
+    @Test
+    void findNearest_ShouldApplyRadiusAndLimit() {
+        UUID louvre = put(48.861, 2.336);
+        put(48.853, 2.350);
+        put(48.890, 2.400);
+
+        assertEquals(List.of(louvre), listingSpatialIndex.findNearest(PARIS, new GeoPoint(48.860, 2.337), 0.5, 10));
+        assertEquals(List.of(louvre), listingSpatialIndex.findNearest(PARIS, new GeoPoint(48.860, 2.337), null, 1));
+    }
+
+    @Test
+    void findNearest_ShouldHandleViewportAcrossAntimeridian() {
+        UUID fiji = put(-17.7, 178.0);
+        UUID samoa = put(-13.8, -172.1);
+        put(-17.7, 100.0);
+
+        List<UUID> result = listingSpatialIndex.findNearest(new GeoBounds(-20, 170, -10, -170),
+                new GeoPoint(-15, 180), null, 10);
+
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(fiji, samoa)));
+    }
+
+    @Test
+    void findNearest_ShouldScanPopulatedCellsForLargeViewports() {
+        UUID lyon = put(45.764, 4.835);
+
+        assertEquals(List.of(lyon), listingSpatialIndex.findNearest(new GeoBounds(-90, -180, 90, 180),
+                new GeoPoint(0, 0), null, 10));
+    }
+
+    @Test
+    void putAndRemove_ShouldMoveAndDropListings() {
+        UUID publicId = put(48.861, 2.336);
+        listingSpatialIndex.put(publicId, new GeoPoint(45.764, 4.835));
+
+        assertTrue(listingSpatialIndex.findNearest(PARIS, PARIS.center(), null, 10).isEmpty());
+        assertEquals(1, listingSpatialIndex.size());
+
+        listingSpatialIndex.remove(publicId);
+
+        assertEquals(0, listingSpatialIndex.size());
+    }
+
+    @Test
+    void coordinatesOf_ShouldFallBackToCountryCenter() {
+        when(locationIndex.getByCode("FRA"))
+                .thenReturn(Optional.of(new LocationDTO("FRA", "France", "Europe", "", 46.0, 2.0)));
+
+        assertEquals(Optional.of(new GeoPoint(48.8, 2.3)), listingSpatialIndex.coordinatesOf("FRA", 48.8, 2.3));
+        assertEquals(Optional.of(new GeoPoint(46.0, 2.0)), listingSpatialIndex.coordinatesOf("FRA", null, 2.3));
+        assertTrue(listingSpatialIndex.coordinatesOf("XXX", null, null).isEmpty());
+    }
+
+    private UUID put(double latitude, double longitude) {
+        UUID publicId = UUID.randomUUID();
+        listingSpatialIndex.put(publicId, new GeoPoint(latitude, longitude));
+        return publicId;
+    }
+}
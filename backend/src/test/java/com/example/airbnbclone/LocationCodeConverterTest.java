@@ -0,0 +1,55 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.listing.domain.BookingCategoryConverter;
+import com.example.airbnbclone.listing.domain.LocationCodeConverter;
+import com.example.airbnbclone.location.application.LocationCodeRegistry;
+import com.example.airbnbclone.location.repository.LocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocationCodeConverterTest {
+
+    private LocationCodeConverter locationCodeConverter;
+
+    @BeforeEach
+    void setUp() {
+        LocationRepository locationRepository = mock(LocationRepository.class);
+        when(locationRepository.findAllCodesById()).thenReturn(Map.of((short) 1, "FRA", (short) 2, "MAR"));
+        locationCodeConverter = new LocationCodeConverter(new LocationCodeRegistry(locationRepository));
+    }
+
+    @Test
+    void testLocationCodeRoundTrip() {
+        assertEquals((short) 2, locationCodeConverter.convertToDatabaseColumn("MAR"));
+        assertEquals((short) 2, locationCodeConverter.convertToDatabaseColumn(" mar"));
+        assertEquals("FRA", locationCodeConverter.convertToEntityAttribute((short) 1));
+    }
+
+    @Test
+    void testUnknownLocationCodeMatchesNothing() {
+        assertNull(locationCodeConverter.convertToDatabaseColumn("Marocco"));
+        assertNull(locationCodeConverter.convertToDatabaseColumn(null));
+        assertThrows(IllegalStateException.class, () -> locationCodeConverter.convertToEntityAttribute((short) 3));
+    }
+
+    @Test
+    void testBookingCategoryCodesAreUniqueAndRoundTrip() {
+        BookingCategoryConverter converter = new BookingCategoryConverter();
+
+        assertEquals(BookingCategory.values().length,
+                Arrays.stream(BookingCategory.values()).map(BookingCategory::getCode).distinct().count());
+        for (BookingCategory category : BookingCategory.values()) {
+            assertEquals(category, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(category)));
+        }
+        assertEquals((short) 4, converter.convertToDatabaseColumn(BookingCategory.BEACH));
+        assertThrows(IllegalArgumentException.class, () -> BookingCategory.fromCode((short) 99));
+    }
+}
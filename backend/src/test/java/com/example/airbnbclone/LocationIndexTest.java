@@ -0,0 +1,60 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.location.application.LocationIndex;
+import com.example.airbnbclone.location.application.dto.LocationDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocationIndexTest {
+
+    private static LocationIndex locationIndex;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        locationIndex = new LocationIndex(new ObjectMapper());
+    }
+
+    @Test
+    void testSuggestRanksExactCodeFirst() {
+        List<LocationDTO> suggestions = locationIndex.suggest("fr", 5);
+
+        assertEquals(5, suggestions.size());
+        assertEquals("FRA", suggestions.get(0).code());
+        assertEquals("France", suggestions.get(0).name());
+        assertEquals("Europe", suggestions.get(0).region());
+    }
+
+    @Test
+    void testSuggestMatchesTranslationsWithoutDiacritics() {
+        assertEquals("DEU", locationIndex.suggest("Deutsch", 5).get(0).code());
+        assertEquals("CIV", locationIndex.suggest(" Cote ", 5).get(0).code());
+        assertEquals("JPN", locationIndex.suggest("japon", 5).get(0).code());
+    }
+
+    @Test
+    void testSuggestReturnsEachLocationOnce() {
+        List<LocationDTO> suggestions = locationIndex.suggest("a", LocationIndex.MAX_SUGGESTIONS);
+
+        assertEquals(LocationIndex.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals(suggestions.size(), suggestions.stream().map(LocationDTO::code).distinct().count());
+    }
+
+    @Test
+    void testSuggestWithBlankQuery() {
+        assertTrue(locationIndex.suggest("  ", 5).isEmpty());
+        assertTrue(locationIndex.suggest("zzzz", 5).isEmpty());
+    }
+
+    @Test
+    void testGetByCode() {
+        assertEquals("Germany", locationIndex.getByCode("deu").orElseThrow().name());
+        assertTrue(locationIndex.getByCode("XXX").isEmpty());
+    }
+}
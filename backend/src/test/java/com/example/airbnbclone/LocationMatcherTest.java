@@ -0,0 +1,84 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.location.application.LocationIndex;
+import com.example.airbnbclone.location.application.LocationMatcher;
+import com.example.airbnbclone.location.application.TrigramLocationMatcher;
+import com.example.airbnbclone.location.application.dto.LocationAliasDTO;
+import com.example.airbnbclone.location.application.dto.LocationMatchDTO;
+import com.example.airbnbclone.location.repository.LocationAliasRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class LocationMatcherTest {
+
+    private static LocationIndex locationIndex;
+
+    private LocationAliasRepository locationAliasRepository;
+    private LocationMatcher locationMatcher;
+
+    @BeforeAll
+    static void setUpIndex() throws IOException {
+        locationIndex = new LocationIndex(new ObjectMapper());
+    }
+
+    @BeforeEach
+    void setUp() {
+        locationAliasRepository = mock(LocationAliasRepository.class);
+        locationMatcher = new LocationMatcher(locationIndex, locationAliasRepository, false, 0.3, 3);
+    }
+
+    @Test
+    void testResolveKnownCodeIgnoringCase() {
+        assertEquals(List.of("MAR"), locationMatcher.resolve(" mar "));
+        verifyNoInteractions(locationAliasRepository);
+    }
+
+    @Test
+    void testResolveMisspelledName() {
+        assertEquals("PRT", locationMatcher.resolve("Portugl").get(0));
+        assertEquals("JPN", locationMatcher.resolve("Japn").get(0));
+        assertEquals("MAR", locationMatcher.resolve("morocco").get(0));
+    }
+
+    @Test
+    void testResolveExactNameToThatLocationOnly() {
+        assertEquals(List.of("NER"), locationMatcher.resolve("Niger"));
+    }
+
+    @Test
+    void testResolveUnknownLocationAsIs() {
+        assertEquals(List.of("zzzz"), locationMatcher.resolve("zzzz"));
+        assertTrue(locationMatcher.resolve("  ").isEmpty());
+    }
+
+    @Test
+    void testResolveThroughPgTrgmWhenEnabled() {
+        LocationMatcher pgTrgmMatcher = new LocationMatcher(locationIndex, locationAliasRepository, true, 0.3, 3);
+        when(locationAliasRepository.findClosest("ecosse", 0.3, 3))
+                .thenReturn(List.of(new LocationMatchDTO("GBR", 0.5)));
+
+        assertEquals(List.of("GBR"), pgTrgmMatcher.resolve("Écosse"));
+    }
+
+    @Test
+    void testTrigramSimilarityMatchesPgTrgm() {
+        TrigramLocationMatcher matcher = new TrigramLocationMatcher(List.of(
+                new LocationAliasDTO("word", "A"), new LocationAliasDTO("two words", "B")));
+
+        // pg_trgm: similarity('words', 'two words') = 0.6 and similarity('words', 'word') = 4 / 7
+        List<LocationMatchDTO> matches = matcher.match("words", 0.3, 5);
+
+        assertEquals(List.of("B", "A"), matches.stream().map(LocationMatchDTO::code).toList());
+        assertEquals(0.6, matches.get(0).similarity(), 1e-9);
+        assertEquals(4.0 / 7, matches.get(1).similarity(), 1e-9);
+    }
+}
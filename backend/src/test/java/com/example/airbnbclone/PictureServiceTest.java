@@ -6,6 +6,7 @@ import com.example.airbnbclone.listing.domain.Listing;
 import com.example.airbnbclone.listing.domain.ListingPicture;
 import com.example.airbnbclone.listing.mapper.ListingPictureMapper;
 import com.example.airbnbclone.listing.repository.ListingPictureRepository;
+import com.example.airbnbclone.listing.repository.ListingRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -13,12 +14,19 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 class PictureServiceTest {
@@ -29,6 +37,9 @@ class PictureServiceTest {
     @Mock
     private ListingPictureMapper listingPictureMapper;
 
+    @Mock
+    private ListingRepository listingRepository;
+
     @InjectMocks
     private PictureService pictureService;
 
@@ -38,6 +49,7 @@ class PictureServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         listing = new Listing();
+        listing.setId(1L);
         // Use a valid UUID string
         listing.setPublicId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
     }
@@ -76,5 +88,50 @@ class PictureServiceTest {
         Mockito.verify(listingPictureRepository).saveAll(any());  // Ensure saveAll was called on repository
         Mockito.verify(listingPictureMapper).pictureDTOsToListingPictures(any());  // Ensure mapping was done correctly
         Mockito.verify(listingPictureMapper).listingPictureToPictureDTO(any());  // Ensure DTO conversion was done
+        Mockito.verify(listingRepository).updateCoverPicture(eq(1L), any());  // Ensure the cover reference was stored
+    }
+
+    @Test
+    void testSaveAllReferencesFlaggedCoverOnListing() {
+        PictureDTO pictureDTO = new PictureDTO(new byte[]{1, 2, 3}, "image/jpeg", true);
+        ListingPicture listingPicture = new ListingPicture();
+        listingPicture.setId(7L);
+        listingPicture.setFileContentType("image/jpeg");
+
+        when(listingPictureMapper.pictureDTOsToListingPictures(any())).thenReturn(Set.of(listingPicture));
+        when(listingPictureMapper.listingPictureToPictureDTO(any())).thenReturn(List.of(pictureDTO));
+
+        pictureService.saveAll(List.of(pictureDTO), listing);
+
+        assertTrue(listingPicture.isCover());
+        Mockito.verify(listingRepository).updateCoverPicture(1L, 7L);
+    }
+
+    @Test
+    void testSaveAllReadsPictureDimensions() throws IOException {
+        BufferedImage image = new BufferedImage(32, 24, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        PictureDTO pictureDTO = new PictureDTO(output.toByteArray(), "image/png", true);
+        ListingPicture listingPicture = new ListingPicture();
+        listingPicture.setFile(output.toByteArray());
+        listingPicture.setFileContentType("image/png");
+
+        when(listingPictureMapper.pictureDTOsToListingPictures(any())).thenReturn(Set.of(listingPicture));
+        when(listingPictureMapper.listingPictureToPictureDTO(any())).thenReturn(List.of(pictureDTO));
+
+        pictureService.saveAll(List.of(pictureDTO), listing);
+
+        assertEquals(32, listingPicture.getWidth());
+        assertEquals(24, listingPicture.getHeight());
+    }
+
+    @Test
+    void testGetFile() {
+        PictureDTO pictureDTO = new PictureDTO(new byte[]{1, 2, 3}, "image/jpeg", true);
+        when(listingPictureRepository.findFileById(7L)).thenReturn(Optional.of(pictureDTO));
+
+        assertEquals(Optional.of(pictureDTO), pictureService.getFile(7L));
+        assertTrue(pictureService.getFile(8L).isEmpty());
     }
 }
@@ -0,0 +1,78 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.infrastructure.query.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountFilterTest {
+
+    private final QueryCountStatementInspector inspector = new QueryCountStatementInspector();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        request = new MockHttpServletRequest("GET", "/api/booking/get-booked-listing");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/booking/get-booked-listing");
+        HandlerMethod handlerMethod = new HandlerMethod(new BudgetedEndpoint(), BudgetedEndpoint.class.getMethod("getBookedListing"));
+        new QueryBudgetInterceptor().preHandle(request, new MockHttpServletResponse(), handlerMethod);
+    }
+
+    @Test
+    void doFilter_ShouldRecordQueriesPerEndpoint() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, 20, true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> inspector.inspect("select 1"));
+
+        DistributionSummary queries = meterRegistry.find("http.server.requests.queries")
+                .tag("uri", "/api/booking/get-booked-listing")
+                .summary();
+        assertNotNull(queries);
+        assertEquals(1, queries.totalAmount());
+        assertEquals(0, QueryCountHolder.current());
+    }
+
+    @Test
+    void doFilter_ShouldFailWhenEndpointExceedsItsBudget() {
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, 20, true);
+
+        assertThrows(QueryBudgetExceededException.class, () ->
+                filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                    inspector.inspect("select 1");
+                    inspector.inspect("select 2");
+                    inspector.inspect("select 3");
+                }));
+    }
+
+    @Test
+    void assertAtMost_ShouldFailWhenScopeExceedsItsBudget() {
+        QueryCountHolder.start();
+        try {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+
+            assertDoesNotThrow(() -> QueryCountHolder.assertAtMost(2, "getBookedListing"));
+            assertThrows(QueryBudgetExceededException.class, () -> QueryCountHolder.assertAtMost(1, "getBookedListing"));
+        } finally {
+            QueryCountHolder.stop();
+        }
+    }
+
+    static class BudgetedEndpoint {
+
+        @QueryBudget(2)
+        public void getBookedListing() {
+        }
+    }
+}
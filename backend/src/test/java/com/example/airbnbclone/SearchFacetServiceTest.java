@@ -0,0 +1,72 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.listing.application.SearchFacetService;
+import com.example.airbnbclone.listing.application.dto.SearchDTO;
+import com.example.airbnbclone.listing.application.dto.SearchFacetsDTO;
+import com.example.airbnbclone.listing.application.dto.sub.FacetCountDTO;
+import com.example.airbnbclone.listing.application.dto.sub.ListingFacetRowDTO;
+import com.example.airbnbclone.listing.application.dto.sub.ListingInfoDTO;
+import com.example.airbnbclone.listing.application.dto.sub.PriceBucketDTO;
+import com.example.airbnbclone.listing.application.dto.vo.BathsVO;
+import com.example.airbnbclone.listing.application.dto.vo.BedroomsVO;
+import com.example.airbnbclone.listing.application.dto.vo.BedsVO;
+import com.example.airbnbclone.listing.application.dto.vo.GuestsVO;
+import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.location.application.LocationMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SearchFacetServiceTest {
+
+    private ListingRepository listingRepository;
+    private SearchFacetService searchFacetService;
+
+    private final SearchDTO search = new SearchDTO(null,
+            new ListingInfoDTO(new GuestsVO(4), new BedroomsVO(2), new BedsVO(3), new BathsVO(1)), "FRA");
+
+    @BeforeEach
+    void setUp() {
+        listingRepository = mock(ListingRepository.class);
+        LocationMatcher locationMatcher = mock(LocationMatcher.class);
+        when(locationMatcher.resolve("FRA")).thenReturn(List.of("FRA"));
+        searchFacetService = new SearchFacetService(listingRepository, locationMatcher, 50, 4);
+    }
+
+    @Test
+    void getFacets_ShouldCountCategoriesCapacitiesAndPricesInOneQuery() {
+        when(listingRepository.findFacetRowsByLocationInAndBathroomsAndBedroomsAndBeds(List.of("FRA"), 1, 2, 3)).thenReturn(List.of(
+                new ListingFacetRowDTO(BookingCategory.BEACH, 4, 40),
+                new ListingFacetRowDTO(BookingCategory.BEACH, 4, 120),
+                new ListingFacetRowDTO(BookingCategory.TREEHOUSES, 4, 500),
+                new ListingFacetRowDTO(BookingCategory.CASTLE, 2, 60),
+                new ListingFacetRowDTO(BookingCategory.BEACH, 8, 90)));
+
+        SearchFacetsDTO facets = searchFacetService.getFacets(search);
+
+        assertEquals(List.of(new FacetCountDTO("TREEHOUSES", 1), new FacetCountDTO("BEACH", 2)), facets.categories());
+        assertEquals(List.of(new FacetCountDTO("1-2", 1), new FacetCountDTO("3-4", 3), new FacetCountDTO("7+", 1)),
+                facets.capacities());
+        assertEquals(List.of(new PriceBucketDTO(0, 50, 1), new PriceBucketDTO(50, 100, 0),
+                new PriceBucketDTO(100, 150, 1), new PriceBucketDTO(150, null, 1)), facets.prices());
+        verify(listingRepository, times(1)).findFacetRowsByLocationInAndBathroomsAndBedroomsAndBeds(List.of("FRA"), 1, 2, 3);
+    }
+
+    @Test
+    void getFacets_ShouldReturnEmptyFacetsWithoutMatch() {
+        when(listingRepository.findFacetRowsByLocationInAndBathroomsAndBedroomsAndBeds(any(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of());
+
+        SearchFacetsDTO facets = searchFacetService.getFacets(search);
+
+        assertTrue(facets.categories().isEmpty());
+        assertTrue(facets.capacities().isEmpty());
+        assertEquals(4, facets.prices().size());
+        assertTrue(facets.prices().stream().allMatch(bucket -> bucket.count() == 0));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.airbnbclone;
+
+import com.example.airbnbclone.booking.application.BookingService;
+import com.example.airbnbclone.infrastructure.metrics.ServiceMetricsAspect;
+import com.example.airbnbclone.listing.application.LandlordService;
+import com.example.airbnbclone.listing.application.ListingClusterIndex;
+import com.example.airbnbclone.listing.application.ListingPriceCache;
+import com.example.airbnbclone.listing.application.ListingRateService;
+import com.example.airbnbclone.listing.application.ListingSpatialIndex;
+import com.example.airbnbclone.listing.application.PictureService;
+import com.example.airbnbclone.listing.application.TenantService;
+import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.listing.domain.Listing;
+import com.example.airbnbclone.listing.mapper.ListingMapper;
+import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.location.application.LocationMatcher;
+import com.example.airbnbclone.user.application.Auth0Service;
+import com.example.airbnbclone.user.application.UserService;
+import com.example.airbnbclone.user.application.dto.ReadUserDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ListingRepository listingRepository;
+
+    private ListingMapper listingMapper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listingRepository = mock(ListingRepository.class);
+        listingMapper = mock(ListingMapper.class);
+    }
+
+    @Test
+    void measure_ShouldTagTimerWithCategoryPageSizeAndResultSize() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(listingRepository.findAllByBookingCategoryWithCoverOnly(pageable, BookingCategory.BEACH))
+                .thenReturn(new PageImpl<>(List.of(new Listing(), new Listing()), pageable, 2));
+        TenantService tenantService = withAspect(new TenantService(listingRepository, listingMapper,
+                mock(UserService.class), mock(BookingService.class), mock(ListingSpatialIndex.class), mock(ListingClusterIndex.class),
+                mock(LocationMatcher.class)));
+
+        tenantService.getAllByCategory(pageable, BookingCategory.BEACH);
+
+        Timer timer = meterRegistry.find("airbnb.service")
+                .tags("method", "getAllByCategory", "category", "BEACH", "pageSize", "20", "outcome", "OK")
+                .timer();
+        DistributionSummary resultSize = meterRegistry.find("airbnb.service.result.size")
+                .tags("method", "getAllByCategory")
+                .summary();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertNotNull(resultSize);
+        assertEquals(2, resultSize.totalAmount());
+    }
+
+    @Test
+    void measure_ShouldTagTimerWithStateStatus() {
+        ReadUserDTO landlord = new ReadUserDTO(UUID.randomUUID(), "John", "Doe", "landlord@example.com", null, null);
+        when(listingRepository.deleteByPublicIdAndLandlordPublicId(any(), any())).thenReturn(0L);
+        LandlordService landlordService = withAspect(new LandlordService(listingRepository, listingMapper,
+                mock(UserService.class), mock(Auth0Service.class), mock(PictureService.class), mock(ListingSpatialIndex.class),
+                mock(ListingClusterIndex.class), mock(ListingRateService.class),
+                mock(ListingPriceCache.class)));
+
+        landlordService.delete(UUID.randomUUID(), landlord);
+
+        Timer timer = meterRegistry.find("airbnb.service")
+                .tags("method", "delete", "outcome", "UNAUTHORIZED")
+                .timer();
+        assertNotNull(timer);
+    }
+
+    private <T> T withAspect(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        return proxyFactory.getProxy();
+    }
+}
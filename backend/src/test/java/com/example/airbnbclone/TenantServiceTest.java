@@ -1,9 +1,13 @@
 package com.example.airbnbclone;
 
 import com.example.airbnbclone.booking.application.BookingService;
+import com.example.airbnbclone.listing.application.ListingClusterIndex;
+import com.example.airbnbclone.listing.application.ListingSpatialIndex;
 import com.example.airbnbclone.listing.application.TenantService;
 import com.example.airbnbclone.listing.application.dto.DisplayCardListingDTO;
 import com.example.airbnbclone.listing.application.dto.DisplayListingDTO;
+import com.example.airbnbclone.listing.application.dto.KeywordSearchHitDTO;
+import com.example.airbnbclone.listing.application.dto.MapSearchDTO;
 import com.example.airbnbclone.listing.application.dto.SearchDTO;
 import com.example.airbnbclone.listing.application.dto.sub.ListingInfoDTO;
 import com.example.airbnbclone.listing.application.dto.vo.BathsVO;
@@ -11,9 +15,13 @@ import com.example.airbnbclone.listing.application.dto.vo.BedroomsVO;
 import com.example.airbnbclone.listing.application.dto.vo.BedsVO;
 import com.example.airbnbclone.listing.application.dto.vo.GuestsVO;
 import com.example.airbnbclone.listing.domain.BookingCategory;
+import com.example.airbnbclone.listing.domain.GeoBounds;
+import com.example.airbnbclone.listing.domain.GeoPoint;
 import com.example.airbnbclone.listing.domain.Listing;
 import com.example.airbnbclone.listing.mapper.ListingMapper;
 import com.example.airbnbclone.listing.repository.ListingRepository;
+import com.example.airbnbclone.listing.repository.ListingSearchHit;
+import com.example.airbnbclone.location.application.LocationMatcher;
 import com.example.airbnbclone.sharedkernel.service.State;
 import com.example.airbnbclone.user.application.UserService;
 import com.example.airbnbclone.user.application.dto.ReadUserDTO;
@@ -23,6 +31,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -46,12 +55,22 @@ class TenantServiceTest {
     @Mock
     private BookingService bookingService;
 
+    @Mock
+    private ListingSpatialIndex listingSpatialIndex;
+
+    @Mock
+    private ListingClusterIndex listingClusterIndex;
+
+    @Mock
+    private LocationMatcher locationMatcher;
+
     private TenantService tenantService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        tenantService = new TenantService(listingRepository, listingMapper, userService, bookingService);
+        tenantService = new TenantService(listingRepository, listingMapper, userService, bookingService, listingSpatialIndex,
+                listingClusterIndex, locationMatcher);
     }
 
     @Test
@@ -81,7 +100,7 @@ class TenantServiceTest {
         DisplayListingDTO displayListingDTO = mock(DisplayListingDTO.class);
         ReadUserDTO landlordDTO = mock(ReadUserDTO.class);
 
-        when(listingRepository.findByPublicId(publicId)).thenReturn(Optional.of(listing));
+        when(listingRepository.findWithPicturesByPublicId(publicId)).thenReturn(Optional.of(listing));
         when(listingMapper.listingToDisplayListingDTO(listing)).thenReturn(displayListingDTO);
         when(userService.getByPublicId(any())).thenReturn(Optional.of(landlordDTO));
 
@@ -91,7 +110,7 @@ class TenantServiceTest {
         // Assert
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getValue()).isEqualTo(displayListingDTO);
-        verify(listingRepository, times(1)).findByPublicId(publicId);
+        verify(listingRepository, times(1)).findWithPicturesByPublicId(publicId);
         verify(userService, times(1)).getByPublicId(any());
     }
 
@@ -99,7 +118,7 @@ class TenantServiceTest {
     void getOne_shouldReturnErrorWhenListingNotFound() {
         // Arrange
         UUID publicId = UUID.randomUUID();
-        when(listingRepository.findByPublicId(publicId)).thenReturn(Optional.empty());
+        when(listingRepository.findWithPicturesByPublicId(publicId)).thenReturn(Optional.empty());
 
         // Act
         State<DisplayListingDTO, String> result = tenantService.getOne(publicId);
@@ -107,7 +126,7 @@ class TenantServiceTest {
         // Assert
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getError()).contains("Listing doesn't exist");
-        verify(listingRepository, times(1)).findByPublicId(publicId);
+        verify(listingRepository, times(1)).findWithPicturesByPublicId(publicId);
     }
 
     @Test
@@ -145,8 +164,9 @@ class TenantServiceTest {
         when(searchDTO.infos()).thenReturn(listingInfoDTO);
 
         // Mock other dependencies
+        when(locationMatcher.resolve(any())).thenReturn(List.of("FRA"));
         when(listing.getPublicId()).thenReturn(publicId);
-        when(listingRepository.findAllByLocationAndBathroomsAndBedroomsAndGuestsAndBeds(any(), any(), anyInt(), anyInt(), anyInt(), anyInt()))
+        when(listingRepository.findAllByLocationInAndBathroomsAndBedroomsAndGuestsAndBeds(any(), any(), anyInt(), anyInt(), anyInt(), anyInt()))
                 .thenReturn(new PageImpl<>(List.of(listing)));
         when(bookingService.getBookingMatchByListingIdsAndBookedDate(anyList(), any()))
                 .thenReturn(List.of());
@@ -157,9 +177,120 @@ class TenantServiceTest {
 
         // Assert
         assertThat(result.getContent()).hasSize(1);
-        verify(listingRepository, times(1)).findAllByLocationAndBathroomsAndBedroomsAndGuestsAndBeds(any(), any(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(listingRepository, times(1)).findAllByLocationInAndBathroomsAndBedroomsAndGuestsAndBeds(any(), any(), anyInt(), anyInt(), anyInt(), anyInt());
         verify(bookingService, times(1)).getBookingMatchByListingIdsAndBookedDate(anyList(), any());
     }
 
-}
+    @Test
+    void searchMap_shouldReturnCardsNearestFirst() {
+        // Arrange
+        UUID nearest = UUID.randomUUID();
+        UUID farthest = UUID.randomUUID();
+        Listing nearestListing = new Listing();
+        nearestListing.setPublicId(nearest);
+        Listing farthestListing = new Listing();
+        farthestListing.setPublicId(farthest);
+        DisplayCardListingDTO nearestCard = mock(DisplayCardListingDTO.class);
+        DisplayCardListingDTO farthestCard = mock(DisplayCardListingDTO.class);
+        MapSearchDTO mapSearchDTO = new MapSearchDTO(48.0, 2.0, 49.0, 3.0, null, null, 10.0, 20);
+
+        when(listingSpatialIndex.findNearest(new GeoBounds(48.0, 2.0, 49.0, 3.0), new GeoPoint(48.5, 2.5), 10.0, 20))
+                .thenReturn(List.of(nearest, farthest));
+        when(listingRepository.findAllByPublicIdInFetchCoverPicture(List.of(nearest, farthest)))
+                .thenReturn(List.of(farthestListing, nearestListing));
+        when(listingMapper.listingToDisplayCardListingDTO(nearestListing)).thenReturn(nearestCard);
+        when(listingMapper.listingToDisplayCardListingDTO(farthestListing)).thenReturn(farthestCard);
+
+        // Act
+        List<DisplayCardListingDTO> result = tenantService.searchMap(mapSearchDTO);
+
+        // Assert
+        assertThat(result).containsExactly(nearestCard, farthestCard);
+    }
+
+    @Test
+    void searchMap_shouldNotQueryListingsWhenNothingInView() {
+        // Arrange
+        MapSearchDTO mapSearchDTO = new MapSearchDTO(48.0, 2.0, 49.0, 3.0, null, null, null, null);
+        when(listingSpatialIndex.findNearest(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        List<DisplayCardListingDTO> result = tenantService.searchMap(mapSearchDTO);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(listingRepository, never()).findAllByPublicIdInFetchCoverPicture(any());
+    }
+
+    @Test
+    void searchByKeywords_shouldKeepRankOrderAndHighlights() {
+        // Arrange
+        UUID best = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Listing bestListing = new Listing();
+        bestListing.setPublicId(best);
+        Listing secondListing = new Listing();
+        secondListing.setPublicId(second);
+        DisplayCardListingDTO bestCard = mock(DisplayCardListingDTO.class);
+        DisplayCardListingDTO secondCard = mock(DisplayCardListingDTO.class);
+        Pageable pageable = PageRequest.of(0, 20);
+        List<ListingSearchHit> hits = List.of(hit(best, 0.8, highlighted("Sea") + " loft"), hit(second, 0.2, "Quiet flat"));
+
+        when(listingRepository.searchByKeywords("sea view", 20, 0L)).thenReturn(hits);
+        when(listingRepository.findAllByPublicIdInFetchCoverPicture(List.of(best, second)))
+                .thenReturn(List.of(secondListing, bestListing));
+        when(listingMapper.listingToDisplayCardListingDTO(bestListing)).thenReturn(bestCard);
+        when(listingMapper.listingToDisplayCardListingDTO(secondListing)).thenReturn(secondCard);
 
+        // Act
+        Page<KeywordSearchHitDTO> result = tenantService.searchByKeywords(pageable, "sea view");
+
+        // Assert
+        assertThat(result.getContent()).extracting(KeywordSearchHitDTO::listing).containsExactly(bestCard, secondCard);
+        assertThat(result.getContent().getFirst().titleHighlight()).isEqualTo("<mark>Sea</mark> loft");
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(listingRepository, never()).countByKeywords(any());
+    }
+
+    @Test
+    void searchByKeywords_shouldEscapeListingTextAroundHighlights() {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        Listing listing = new Listing();
+        listing.setPublicId(publicId);
+        List<ListingSearchHit> hits = List.of(hit(publicId, 0.5, "<script>alert(1)</script> " + highlighted("sea") + " & sun"));
+
+        when(listingRepository.searchByKeywords("sea", 20, 0L)).thenReturn(hits);
+        when(listingRepository.findAllByPublicIdInFetchCoverPicture(List.of(publicId))).thenReturn(List.of(listing));
+
+        // Act
+        Page<KeywordSearchHitDTO> result = tenantService.searchByKeywords(PageRequest.of(0, 20), "sea");
+
+        // Assert
+        assertThat(result.getContent().getFirst().titleHighlight())
+                .isEqualTo("&lt;script&gt;alert(1)&lt;/script&gt; <mark>sea</mark> &amp; sun");
+    }
+
+    @Test
+    void searchByKeywords_shouldNotQueryWhenKeywordsAreBlank() {
+        // Act
+        Page<KeywordSearchHitDTO> result = tenantService.searchByKeywords(PageRequest.of(0, 20), "  ");
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(listingRepository);
+    }
+
+    private static ListingSearchHit hit(UUID publicId, double rank, String titleHighlight) {
+        ListingSearchHit hit = mock(ListingSearchHit.class);
+        when(hit.getPublicId()).thenReturn(publicId);
+        when(hit.getRank()).thenReturn(rank);
+        when(hit.getTitleHighlight()).thenReturn(titleHighlight);
+        when(hit.getDescriptionHighlight()).thenReturn("");
+        return hit;
+    }
+
+    private static String highlighted(String term) {
+        return ListingRepository.HIGHLIGHT_START + term + ListingRepository.HIGHLIGHT_STOP;
+    }
+}
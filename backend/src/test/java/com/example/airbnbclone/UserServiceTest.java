@@ -16,6 +16,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 import java.time.Instant;
 import java.util.*;
@@ -96,6 +98,28 @@ class UserServiceTest {
         }
     }
 
+    @Test
+    void testGetAuthenticatedUserFromSecurityContext_BearerToken() {
+        User user = new User();
+        user.setEmail("jwt@example.com");
+        ReadUserDTO readUserDTO = new ReadUserDTO(UUID.randomUUID(), "FirstName", "LastName", "jwt@example.com",
+                null, Set.of("ROLE_TENANT"));
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .claim("sub", "loadtest|tenant-1")
+                .claim("email", "jwt@example.com")
+                .build();
+
+        when(securityContext.getAuthentication()).thenReturn(new JwtAuthenticationToken(jwt));
+        SecurityContextHolder.setContext(securityContext);
+        when(userRepository.findOneByEmail("jwt@example.com")).thenReturn(Optional.of(user));
+        when(userMapper.readUserDTOToUser(user)).thenReturn(readUserDTO);
+
+        ReadUserDTO result = userService.getAuthenticatedUserFromSecurityContext();
+
+        assertEquals("jwt@example.com", result.email());
+    }
+
     @Test
     void testGetByEmail_Success() {
         User user = new User();
@@ -33,12 +33,21 @@ export interface DisplayPicture {
   isCover?: boolean
 }
 
+export interface CardPicture {
+  url: string,
+  fileContentType?: string,
+  width?: number,
+  height?: number
+}
+
 export interface CardListing {
   price: PriceVO,
   location: string,
-  cover: DisplayPicture,
+  cover: CardPicture,
   bookingCategory: CategoryName,
   publicId: string,
+  latitude?: number,
+  longitude?: number,
   loading: boolean
 }
 
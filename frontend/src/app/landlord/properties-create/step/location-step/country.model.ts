@@ -50,3 +50,12 @@ export interface Country {
 }
 
 export type Countries = Country[]
+
+export interface CountryLocation {
+  code: string
+  name: string
+  region: string
+  flag: string
+  latitude?: number
+  longitude?: number
+}
@@ -1,8 +1,8 @@
-import {computed, inject, Injectable, signal, WritableSignal} from '@angular/core';
-import {HttpClient} from "@angular/common/http";
-import {Country} from "./country.model";
-import {State} from "../../../../core/model/state.model";
-import {catchError, map, Observable, of, shareReplay, tap} from "rxjs";
+import {inject, Injectable} from '@angular/core';
+import {HttpClient, HttpParams} from "@angular/common/http";
+import {CountryLocation} from "./country.model";
+import {Observable, shareReplay} from "rxjs";
+import {environment} from "../../../../../environments/environment";
 
 @Injectable({
   providedIn: 'root'
@@ -11,34 +11,21 @@ export class CountryService {
 
   http = inject(HttpClient);
 
-  private countries$: WritableSignal<State<Array<Country>>> =
-    signal(State.Builder<Array<Country>>().forInit());
-  countries = computed(() => this.countries$());
+  private countriesByCode = new Map<string, Observable<CountryLocation>>();
 
-  private fetchCountry$ = new Observable<Array<Country>>();
-
-  constructor() {
-    this.initFetchGetAllCountries();
-    this.fetchCountry$.subscribe();
-  }
-
-  initFetchGetAllCountries(): void {
-    this.fetchCountry$ = this.http.get<Array<Country>>("/assets/countries.json")
-      .pipe(
-        tap(countries =>
-          this.countries$.set(State.Builder<Array<Country>>().forSuccess(countries))),
-        catchError(err => {
-          this.countries$.set(State.Builder<Array<Country>>().forError(err));
-          return of(err);
-        }),
-        shareReplay(1)
-      );
+  suggest(query: string): Observable<Array<CountryLocation>> {
+    const params = new HttpParams().set("q", query).set("limit", 10);
+    return this.http.get<Array<CountryLocation>>(`${environment.API_URL}/locations/suggest`, {params});
   }
 
-  public getCountryByCode(code: string): Observable<Country> {
-    return this.fetchCountry$.pipe(
-      map(countries => countries.filter(country => country.cca3 === code)),
-      map(countries => countries[0])
-    );
+  public getCountryByCode(code: string): Observable<CountryLocation> {
+    let country$ = this.countriesByCode.get(code);
+    if (!country$) {
+      const params = new HttpParams().set("code", code);
+      country$ = this.http.get<CountryLocation>(`${environment.API_URL}/locations/get-one`, {params})
+        .pipe(shareReplay(1));
+      this.countriesByCode.set(code, country$);
+    }
+    return country$;
   }
 }
@@ -5,7 +5,7 @@ import {AutoCompleteCompleteEvent, AutoCompleteModule, AutoCompleteSelectEvent}
 import {CountryService} from "../country.service";
 import {ToastService} from "../../../../../layout/toast.service";
 import {OpenStreetMapProvider} from "leaflet-geosearch";
-import {Country} from "../country.model";
+import {CountryLocation} from "../country.model";
 import L, {circle, latLng, polygon, tileLayer} from "leaflet";
 import {filter} from "rxjs";
 
@@ -31,12 +31,12 @@ export class LocationMapComponent {
   location = input.required<string>();
   placeholder = input<string>("Select your home country");
 
-  currentLocation: Country | undefined;
+  currentLocation: CountryLocation | undefined;
 
   @Output()
   locationChange = new EventEmitter<string>();
 
-  formatLabel = (country: Country) => country.flag + "   " + country.name.common;
+  formatLabel = (country: CountryLocation) => country.flag + "   " + country.name;
 
   options = {
     layers: [
@@ -59,8 +59,7 @@ export class LocationMapComponent {
     }
   }
 
-  countries: Array<Country> = [];
-  filteredCountries: Array<Country> = [];
+  filteredCountries: Array<CountryLocation> = [];
 
 
   constructor() {
@@ -77,30 +76,30 @@ export class LocationMapComponent {
   }
 
   onLocationChange(newEvent: AutoCompleteSelectEvent) {
-    const newCountry = newEvent.value as Country;
-    this.locationChange.emit(newCountry.cca3);
+    const newCountry = newEvent.value as CountryLocation;
+    this.locationChange.emit(newCountry.code);
   }
 
   private listenToLocation() {
     effect(() => {
-      const countriesState = this.countryService.countries();
-      if (countriesState.status === "OK" && countriesState.value) {
-        this.countries = countriesState.value;
-        this.filteredCountries = countriesState.value;
-        this.changeMapLocation(this.location())
-      } else if (countriesState.status === "ERROR") {
-        this.toastService.send({
-          severity: "error", summary: "Error",
-          detail: "Something went wrong when loading countries on change location"
-        });
+      const location = this.location();
+      if (location) {
+        this.countryService.getCountryByCode(location)
+          .subscribe({
+            next: country => this.changeMapLocation(country),
+            error: () => this.toastService.send({
+              severity: "error", summary: "Error",
+              detail: "Something went wrong when loading countries on change location"
+            })
+          });
       }
     });
   }
 
-  private changeMapLocation(term: string) {
-    this.currentLocation = this.countries.find(country => country.cca3 === term);
-    if (this.currentLocation) {
-      this.provider!.search({query: this.currentLocation.name.common})
+  private changeMapLocation(country: CountryLocation) {
+    this.currentLocation = country;
+    if (this.currentLocation && this.provider) {
+      this.provider.search({query: this.currentLocation.name})
         .then((results) => {
           if (results && results.length > 0) {
             const firstResult = results[0];
@@ -115,8 +114,8 @@ export class LocationMapComponent {
   }
 
   search(newCompleteEvent: AutoCompleteCompleteEvent): void {
-    this.filteredCountries =
-      this.countries.filter(country => country.name.common.toLowerCase().startsWith(newCompleteEvent.query))
+    this.countryService.suggest(newCompleteEvent.query)
+      .subscribe(countries => this.filteredCountries = countries);
   }
 
   protected readonly filter = filter;
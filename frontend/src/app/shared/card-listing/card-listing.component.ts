@@ -48,7 +48,7 @@ export class CardListingComponent {
         .subscribe({
           next: country => {
             if (listing) {
-              this.listing().location = country.region + ", " + country.name.common
+              this.listing().location = country.region + ", " + country.name
             }
           }
         })
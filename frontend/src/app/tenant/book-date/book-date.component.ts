@@ -4,12 +4,12 @@ import {BookingService} from "../service/booking.service";
 import {ToastService} from "../../layout/toast.service";
 import {AuthService} from "../../core/auth/auth.service";
 import {Router} from "@angular/router";
-import dayjs from "dayjs";
 import {BookedDatesDTOFromClient, CreateBooking} from "../model/booking.model";
 import {CurrencyPipe} from "@angular/common";
 import {CalendarModule} from "primeng/calendar";
 import {FormsModule} from "@angular/forms";
 import {MessageModule} from "primeng/message";
+import dayjs from "dayjs";
 
 @Component({
   selector: 'app-book-date',
@@ -41,12 +41,14 @@ export class BookDateComponent implements OnInit, OnDestroy {
 
   constructor() {
     this.listenToCheckAvailableDate();
+    this.listenToQuote();
     this.listenToCreateBooking()
   }
 
 
   ngOnDestroy(): void {
     this.bookingService.resetCreateBooking();
+    this.bookingService.resetQuote();
   }
 
   ngOnInit(): void {
@@ -55,12 +57,11 @@ export class BookDateComponent implements OnInit, OnDestroy {
 
   onDateChange(newBookingDates: Array<Date>) {
     this.bookingDates = newBookingDates;
+    this.totalPrice = 0;
     if (this.validateMakeBooking()) {
-      const startBookingDateDayJS = dayjs(newBookingDates[0]);
-      const endBookingDateDayJS = dayjs(newBookingDates[1]);
-      this.totalPrice = endBookingDateDayJS.diff(startBookingDateDayJS, "days") * this.listing().price.value;
+      this.bookingService.quote(this.listingPublicId(), newBookingDates[0], newBookingDates[1]);
     } else {
-      this.totalPrice = 0;
+      this.bookingService.resetQuote();
     }
   }
 
@@ -75,8 +76,8 @@ export class BookDateComponent implements OnInit, OnDestroy {
   onNewBooking() {
     const newBooking: CreateBooking = {
       listingPublicId: this.listingPublicId(),
-      startDate: this.bookingDates[0],
-      endDate: this.bookingDates[1],
+      startDate: dayjs(this.bookingDates[0]).format(),
+      endDate: dayjs(this.bookingDates[1]).format(),
     }
     this.bookingService.create(newBooking);
   }
@@ -114,6 +115,17 @@ export class BookDateComponent implements OnInit, OnDestroy {
     return dates;
   }
 
+  private listenToQuote() {
+    effect(() => {
+      const quoteState = this.bookingService.quoteSig();
+      if (quoteState.status === "OK") {
+        this.totalPrice = quoteState.value!.totalPrice.value;
+      } else if (quoteState.status === "ERROR") {
+        this.totalPrice = 0;
+      }
+    });
+  }
+
   private listenToCreateBooking() {
     effect(() => {
       const createBookingState = this.bookingService.createBookingSig();
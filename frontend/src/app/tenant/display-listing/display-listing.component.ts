@@ -78,7 +78,7 @@ export class DisplayListingComponent implements OnInit, OnDestroy {
             .subscribe({
               next: country => {
                 if (this.listing) {
-                  this.listing.location = country.region + ", " + country.name.common;
+                  this.listing.location = country.region + ", " + country.name;
                 }
               }
             });
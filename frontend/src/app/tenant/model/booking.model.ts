@@ -1,4 +1,4 @@
-import {DisplayPicture} from "../../landlord/model/listing.model";
+import {CardPicture} from "../../landlord/model/listing.model";
 import {PriceVO} from "../../landlord/model/listing-vo.model";
 import {Dayjs} from "dayjs";
 
@@ -9,7 +9,7 @@ export interface BookedDatesDTOFromServer {
 
 export interface BookedListing {
   location: string,
-  cover: DisplayPicture,
+  cover: CardPicture,
   totalPrice: PriceVO,
   dates: BookedDatesDTOFromServer,
   bookingPublicId: string,
@@ -18,9 +18,21 @@ export interface BookedListing {
 }
 
 export interface CreateBooking {
-  startDate: Date,
-  endDate: Date,
+  startDate: string,
+  endDate: string,
+  listingPublicId: string,
+}
+
+export interface NightlyPrice {
+  night: string,
+  price: PriceVO,
+}
+
+export interface BookingQuote {
   listingPublicId: string,
+  nights: number,
+  nightlyPrices: Array<NightlyPrice>,
+  totalPrice: PriceVO,
 }
 
 export interface BookedDatesDTOFromClient {
@@ -36,7 +48,7 @@ export interface BookedDatesDTOFromServer {
 
 export interface BookedListing {
   location: string,
-  cover: DisplayPicture,
+  cover: CardPicture,
   totalPrice: PriceVO,
   dates: BookedDatesDTOFromServer,
   bookingPublicId: string,
@@ -1,7 +1,13 @@
 import {computed, inject, Injectable, signal, WritableSignal} from '@angular/core';
 import {HttpClient, HttpParams} from "@angular/common/http";
 import {State} from "../../core/model/state.model";
-import {BookedDatesDTOFromClient, BookedDatesDTOFromServer, BookedListing, CreateBooking} from "../model/booking.model";
+import {
+  BookedDatesDTOFromClient,
+  BookedDatesDTOFromServer,
+  BookedListing,
+  BookingQuote,
+  CreateBooking
+} from "../model/booking.model";
 import {environment} from "../../../environments/environment";
 import {map} from "rxjs";
 import dayjs from "dayjs";
@@ -21,6 +27,10 @@ export class BookingService {
     = signal(State.Builder<Array<BookedDatesDTOFromClient>>().forInit());
   checkAvailabilitySig = computed(() => this.checkAvailability$());
 
+  private quote$: WritableSignal<State<BookingQuote>>
+    = signal(State.Builder<BookingQuote>().forInit());
+  quoteSig = computed(() => this.quote$());
+
 
   private getBookedListing$: WritableSignal<State<Array<BookedListing>>>
     = signal(State.Builder<Array<BookedListing>>().forInit());
@@ -54,6 +64,21 @@ export class BookingService {
     })
   }
 
+  quote(listingPublicId: string, startDate: Date, endDate: Date): void {
+    const params = new HttpParams()
+      .set("listingPublicId", listingPublicId)
+      .set("startDate", dayjs(startDate).format("YYYY-MM-DD"))
+      .set("endDate", dayjs(endDate).format("YYYY-MM-DD"));
+    this.http.get<BookingQuote>(`${environment.API_URL}/booking/quote`, {params})
+      .subscribe({
+        next: quote => this.quote$.set(State.Builder<BookingQuote>().forSuccess(quote)),
+        error: err => this.quote$.set(State.Builder<BookingQuote>().forError(err)),
+      });
+  }
+
+  resetQuote(): void {
+    this.quote$.set(State.Builder<BookingQuote>().forInit());
+  }
 
   constructor() {
   }